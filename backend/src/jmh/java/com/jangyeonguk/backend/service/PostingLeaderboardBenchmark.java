@@ -0,0 +1,72 @@
+package com.jangyeonguk.backend.service;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 공고 순위표 벤치마크 (지원자 10만 명 공고 기준)
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostingLeaderboardBenchmark {
+
+    @Param({"100000"})
+    private int applicants;
+
+    @Param({"100"})
+    private int maxScore;
+
+    private PostingLeaderboard leaderboard;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        leaderboard = new PostingLeaderboard();
+        random = new SplittableRandom(42);
+        for (long applicationId = 1; applicationId <= applicants; applicationId++) {
+            leaderboard.put(applicationId, random.nextInt(maxScore + 1));
+        }
+    }
+
+    @Benchmark
+    public long rank() {
+        return leaderboard.rank(1 + random.nextInt(applicants)).getAsLong();
+    }
+
+    @Benchmark
+    public double percentile() {
+        return leaderboard.percentile(1 + random.nextInt(applicants));
+    }
+
+    @Benchmark
+    public long countBetween() {
+        int min = random.nextInt(maxScore + 1);
+        return leaderboard.countBetween(min, min + 10);
+    }
+
+    @Benchmark
+    public List<PostingLeaderboard.Entry> top20() {
+        return leaderboard.top(0, 20);
+    }
+
+    /**
+     * 재평가로 점수가 바뀌는 경우 (기존 점수 칸에서 제거 후 새 칸에 추가)
+     */
+    @Benchmark
+    public void rescoreOne() {
+        leaderboard.put(1 + random.nextInt(applicants), random.nextInt(maxScore + 1));
+    }
+}
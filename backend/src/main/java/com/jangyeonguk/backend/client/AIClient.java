@@ -0,0 +1,130 @@
+package com.jangyeonguk.backend.client;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.jangyeonguk.backend.config.AIClientProperties;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 서버(FastAPI) HTTP 클라이언트
+ * 커넥션 풀을 공유하는 RestTemplate과, 공용 ForkJoinPool과 분리된 AI 호출 전용 실행기를 제공한다.
+ * 실행기는 큐 크기가 제한되어 있어 가득 차면 RejectedExecutionException으로 거절한다.
+ * 모든 호출은 재시도(지터 백오프) → 서킷 브레이커 → 레이트 리미터 순으로 감싸진다.
+ */
+@Slf4j
+@Component
+public class AIClient {
+
+    private final RestTemplate restTemplate;
+    private final ThreadPoolExecutor executor;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final RateLimiter rateLimiter;
+
+    @Value("${ai.base-url:http://localhost:8000}")
+    private String aiBaseUrl;
+
+    public AIClient(@Qualifier("aiRestTemplate") RestTemplate restTemplate,
+                    AIClientProperties properties,
+                    MeterRegistry meterRegistry,
+                    CircuitBreaker aiCircuitBreaker,
+                    Retry aiRetry,
+                    RateLimiter aiRateLimiter) {
+        this.restTemplate = restTemplate;
+        this.circuitBreaker = aiCircuitBreaker;
+        this.retry = aiRetry;
+        this.rateLimiter = aiRateLimiter;
+
+        Counter rejected = Counter.builder("ai.client.executor.rejected")
+                .description("AI 실행기 큐가 가득 차 거절된 작업 수")
+                .register(meterRegistry);
+        AIClientProperties.Executor config = properties.getExecutor();
+        this.executor = new ThreadPoolExecutor(
+                config.getCorePoolSize(),
+                config.getMaxPoolSize(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                new CustomizableThreadFactory("ai-client-"),
+                (task, pool) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException("AI 실행기 큐가 가득 찼습니다 (queued=" + pool.getQueue().size() + ")");
+                });
+
+        Gauge.builder("ai.client.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("AI 실행기에서 실행 중인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.client.executor.pool.size", executor, ThreadPoolExecutor::getPoolSize)
+                .description("AI 실행기 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.client.executor.queued", executor, e -> e.getQueue().size())
+                .description("AI 실행기 큐에 대기 중인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.client.executor.queue.remaining", executor, e -> e.getQueue().remainingCapacity())
+                .description("AI 실행기 큐 남은 용량")
+                .register(meterRegistry);
+    }
+
+    /**
+     * JSON 본문 POST (동기 호출, 실패 시 예외 전파)
+     * 재시도마다 레이트 리미터 토큰을 새로 받으며, 서킷이 열려 있으면 CallNotPermittedException,
+     * 토큰을 제한 시간 안에 얻지 못하면 RequestNotPermitted 를 던진다.
+     */
+    public <T> T post(String path, Object body, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Object> request = new HttpEntity<>(body, headers);
+
+        return Retry.decorateSupplier(retry,
+                CircuitBreaker.decorateSupplier(circuitBreaker,
+                        RateLimiter.decorateSupplier(rateLimiter,
+                                () -> restTemplate.postForObject(aiBaseUrl + path, request, responseType))))
+                .get();
+    }
+
+    /**
+     * 서킷이 열려 있지 않아 AI 호출이 가능한 상태인지 여부
+     */
+    public boolean isAvailable() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    /**
+     * AI 전용 실행기에서 작업 실행
+     *
+     * @throws RejectedExecutionException 실행기 큐가 가득 찬 경우
+     */
+    public CompletableFuture<Void> submit(Runnable task) {
+        return CompletableFuture.runAsync(task, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("AI 실행기 종료 대기 시간 초과 - 남은 작업 {}건", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.jangyeonguk.backend.config;
+
+import java.time.Duration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRateLimiterMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * AI 서버 호출 설정
+ * 요청마다 RestTemplate을 생성하지 않고, keep-alive 커넥션 풀과 타임아웃이 설정된 하나의 클라이언트를 공유한다.
+ * 호출은 레이트 리미터 → 서킷 브레이커 → 재시도 순으로 보호된다.
+ */
+@Configuration
+@EnableConfigurationProperties(AIClientProperties.class)
+public class AIClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager aiConnectionManager(AIClientProperties properties, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeoutMs()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeoutMs()))
+                        .build())
+                .build();
+
+        Gauge.builder("ai.client.pool.leased", pool, p -> p.getTotalStats().getLeased())
+                .description("사용 중인 AI 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.client.pool.available", pool, p -> p.getTotalStats().getAvailable())
+                .description("재사용 대기 중인 keep-alive 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.client.pool.pending", pool, p -> p.getTotalStats().getPending())
+                .description("커넥션 할당을 기다리는 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.client.pool.max", pool, p -> p.getTotalStats().getMax())
+                .description("AI 커넥션 풀 최대 크기")
+                .register(meterRegistry);
+        return pool;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient aiHttpClient(PoolingHttpClientConnectionManager aiConnectionManager, AIClientProperties properties) {
+        TimeValue keepAlive = TimeValue.ofMilliseconds(properties.getKeepAliveMs());
+        return HttpClients.custom()
+                .setConnectionManager(aiConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeoutMs()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(properties.getReadTimeoutMs()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate aiRestTemplate(CloseableHttpClient aiHttpClient, AIClientProperties properties) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(aiHttpClient));
+        if (properties.isGzipRequests()) {
+            restTemplate.getInterceptors().add(new GzipRequestInterceptor(properties.getGzipMinBytes()));
+        }
+        return restTemplate;
+    }
+
+    /**
+     * LLM 쿼터에 맞춘 클라이언트 측 토큰 버킷 (초당 rateLimitPerSecond 개 보충)
+     */
+    @Bean
+    public RateLimiter aiRateLimiter(AIClientProperties properties, MeterRegistry meterRegistry) {
+        AIClientProperties.Resilience config = properties.getResilience();
+        RateLimiterRegistry registry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+                .limitForPeriod(config.getRateLimitPerSecond())
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ofMillis(config.getRateLimitTimeoutMs()))
+                .build());
+        TaggedRateLimiterMetrics.ofRateLimiterRegistry(registry).bindTo(meterRegistry);
+        return registry.rateLimiter("ai");
+    }
+
+    /**
+     * 오류율/지연율이 임계치를 넘으면 AI 호출을 즉시 실패시키는 서킷 브레이커
+     * 4xx(429 제외)는 요청 자체의 문제이므로 실패로 집계하지 않는다.
+     */
+    @Bean
+    public CircuitBreaker aiCircuitBreaker(AIClientProperties properties, MeterRegistry meterRegistry) {
+        AIClientProperties.Resilience config = properties.getResilience();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(config.getSlidingWindowSize())
+                .minimumNumberOfCalls(Math.min(10, config.getSlidingWindowSize()))
+                .failureRateThreshold(config.getFailureRateThreshold())
+                .slowCallRateThreshold(config.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(Duration.ofMillis(config.getSlowCallDurationMs()))
+                .waitDurationInOpenState(Duration.ofMillis(config.getOpenStateWaitMs()))
+                .permittedNumberOfCallsInHalfOpenState(config.getHalfOpenPermittedCalls())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordExceptions(ResourceAccessException.class, HttpServerErrorException.class,
+                        HttpClientErrorException.TooManyRequests.class)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker("ai");
+    }
+
+    /**
+     * 일시적 오류(연결/타임아웃, 5xx, 429)만 지수 백오프 + 지터로 재시도
+     * 서킷 오픈이나 레이트 리밋 대기 초과는 재시도하지 않고 호출 측(아웃박스)에 맡긴다.
+     */
+    @Bean
+    public Retry aiRetry(AIClientProperties properties, MeterRegistry meterRegistry) {
+        AIClientProperties.Resilience config = properties.getResilience();
+        RetryRegistry registry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(config.getRetryMaxAttempts())
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        Duration.ofMillis(config.getRetryInitialIntervalMs()), 2.0, 0.5,
+                        Duration.ofMillis(config.getRetryMaxIntervalMs())))
+                .retryExceptions(ResourceAccessException.class, HttpServerErrorException.class,
+                        HttpClientErrorException.TooManyRequests.class)
+                .ignoreExceptions(CallNotPermittedException.class, RequestNotPermitted.class)
+                .build());
+        TaggedRetryMetrics.ofRetryRegistry(registry).bindTo(meterRegistry);
+        return registry.retry("ai");
+    }
+}
@@ -0,0 +1,50 @@
+package com.jangyeonguk.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * AI 서버 HTTP 클라이언트 설정 (ai.client.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.client")
+public class AIClientProperties {
+
+    private int connectTimeoutMs = 3000; // TCP 연결 타임아웃
+    private int readTimeoutMs = 30000; // 응답 대기 타임아웃
+    private int connectionRequestTimeoutMs = 5000; // 풀에서 커넥션을 빌리기까지의 대기 타임아웃
+    private int maxConnections = 50; // 풀 전체 최대 커넥션 수 (AI 서버 단일 호스트이므로 라우트당 최대와 동일)
+    private long keepAliveMs = 60000; // 유휴 커넥션 유지 시간
+    private boolean gzipRequests = false; // 요청 본문 gzip 압축 여부
+    private int gzipMinBytes = 1024; // 이 크기 이상의 본문만 압축
+
+    private Executor executor = new Executor();
+    private Resilience resilience = new Resilience();
+
+    @Getter
+    @Setter
+    public static class Executor {
+        private int corePoolSize = 4;
+        private int maxPoolSize = 16;
+        private int queueCapacity = 500; // 초과 시 거절 (호출 측에서 재시도/대기 처리)
+    }
+
+    @Getter
+    @Setter
+    public static class Resilience {
+        private int rateLimitPerSecond = 10; // LLM 쿼터에 맞춘 초당 호출 수 (토큰 버킷)
+        private long rateLimitTimeoutMs = 5000; // 토큰을 기다리는 최대 시간
+        private int retryMaxAttempts = 3; // 최초 호출 포함 최대 시도 횟수
+        private long retryInitialIntervalMs = 500; // 첫 재시도 대기 (지수 증가 + 지터)
+        private long retryMaxIntervalMs = 5000; // 재시도 대기 상한
+        private float failureRateThreshold = 50; // 이 비율(%) 이상 실패하면 서킷 오픈
+        private float slowCallRateThreshold = 80; // 이 비율(%) 이상 느리면 서킷 오픈
+        private long slowCallDurationMs = 20000; // 느린 호출 기준
+        private int slidingWindowSize = 50; // 실패율 계산 대상 최근 호출 수
+        private long openStateWaitMs = 30000; // 오픈 후 half-open 전환까지 대기
+        private int halfOpenPermittedCalls = 5; // half-open 상태에서 허용할 시험 호출 수
+    }
+}
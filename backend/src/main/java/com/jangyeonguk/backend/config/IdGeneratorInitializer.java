@@ -0,0 +1,61 @@
+package com.jangyeonguk.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * id_generators 초기화
+ * 기존 데이터가 있는 테이블이 pooled 테이블 생성기로 전환되어도 기존 ID와 겹치지 않도록
+ * 애플리케이션 기동 시(웹 서버 시작 전) 각 시퀀스의 next_val을 MAX(id) + allocationSize 이상으로 올린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorInitializer {
+
+    /** @TableGenerator의 allocationSize와 같아야 한다 */
+    static final int ALLOCATION_SIZE = 50;
+
+    /** pkColumnValue = 대상 테이블명 */
+    private static final List<String> SEQUENCES = List.of("resume_item_answers", "cover_letter_question_answers");
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS id_generators (
+                sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+                next_val BIGINT
+            )
+            """;
+
+    /**
+     * pooled 옵티마이저는 읽은 값 V에 대해 V - allocationSize + 1 ~ V 구간을 발급하므로
+     * next_val >= MAX(id) + allocationSize 여야 기존 ID를 재발급하지 않는다.
+     * 이미 정상적으로 사용 중인 값은 GREATEST로 유지된다.
+     */
+    private static final String SEED_SQL = """
+            INSERT INTO id_generators (sequence_name, next_val)
+            VALUES (?, ?) AS new
+            ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(id_generators.next_val, 0), new.next_val)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** ddl-auto로 스키마가 갱신된 뒤 실행되도록 의존 */
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void initialize() {
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        for (String table : SEQUENCES) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            long floor = (maxId == null ? 0L : maxId) + ALLOCATION_SIZE;
+            jdbcTemplate.update(SEED_SQL, table, floor);
+            log.info("id_generators 초기화 - sequence: {}, 최소 next_val: {}", table, floor);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.jangyeonguk.backend.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,14 +16,38 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.jangyeonguk.backend.dto.application.ApplicationCreateRequestDto;
 import com.jangyeonguk.backend.dto.application.ApplicationResponseDto;
+import com.jangyeonguk.backend.dto.application.ApplicationSummaryResponseDto;
+import com.jangyeonguk.backend.dto.application.BulkEvaluationDecisionRequestDto;
+import com.jangyeonguk.backend.dto.application.BulkEvaluationDecisionResponseDto;
+import com.jangyeonguk.backend.dto.application.CursorPageResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationAnalyticsResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationQueueStatusResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationRankingResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultBatchResponseDto;
 import com.jangyeonguk.backend.dto.evaluation.EvaluationResultRequestDto;
 import com.jangyeonguk.backend.dto.evaluation.EvaluationResultResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationSweepReportDto;
+import com.jangyeonguk.backend.dto.evaluation.LeaderboardResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.PassingScoreSimulationRequestDto;
+import com.jangyeonguk.backend.dto.evaluation.PassingScoreSimulationResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.ScoreStatisticsResponseDto;
 import com.jangyeonguk.backend.domain.EvaluationResult;
+import com.jangyeonguk.backend.service.AIScoringService;
+import com.jangyeonguk.backend.service.ApplicationDecisionService;
 import com.jangyeonguk.backend.service.ApplicationService;
+import com.jangyeonguk.backend.service.EvaluationAnalyticsService;
+import com.jangyeonguk.backend.exception.IntakeBacklogFullException;
+import com.jangyeonguk.backend.service.EvaluationIntakeJournal;
+import com.jangyeonguk.backend.service.EvaluationLeaderboardService;
+import com.jangyeonguk.backend.service.EvaluationResultIngestService;
+import com.jangyeonguk.backend.service.EvaluationStatisticsService;
+import com.jangyeonguk.backend.service.EvaluationSweeper;
+import com.jangyeonguk.backend.service.PassingScoreSimulator;
 import com.jangyeonguk.backend.repository.EvaluationResultRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -36,6 +64,15 @@ import jakarta.validation.Valid;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final AIScoringService aiScoringService;
+    private final EvaluationSweeper evaluationSweeper;
+    private final EvaluationAnalyticsService evaluationAnalyticsService;
+    private final EvaluationLeaderboardService evaluationLeaderboardService;
+    private final EvaluationStatisticsService evaluationStatisticsService;
+    private final PassingScoreSimulator passingScoreSimulator;
+    private final ApplicationDecisionService applicationDecisionService;
+    private final EvaluationResultIngestService evaluationResultIngestService;
+    private final EvaluationIntakeJournal evaluationIntakeJournal;
     private final EvaluationResultRepository evaluationResultRepository;
 
     /**
@@ -50,23 +87,157 @@ public class ApplicationController {
     }
 
     /**
-     * 지원서 목록 조회
+     * 지원서 목록 조회 (커서 페이지, (공고 ID, 지원서 ID) 순)
      */
     @GetMapping
-    public ResponseEntity<List<ApplicationResponseDto>> getApplications() {
-        List<ApplicationResponseDto> response = applicationService.getApplications();
+    public ResponseEntity<CursorPageResponseDto<ApplicationResponseDto>> getApplications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<ApplicationResponseDto> response = applicationService.getApplications(cursor, size);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * 공고별 지원서 조회
+     * 공고별 AI 평가 대기열 현황 조회 (대기 건수, 최장 대기 시간)
+     */
+    @GetMapping("/evaluation-queue")
+    public ResponseEntity<List<EvaluationQueueStatusResponseDto>> getEvaluationQueueStatus() {
+        return ResponseEntity.ok(aiScoringService.getEvaluationQueueStatus());
+    }
+
+    /**
+     * 마지막 평가 누락 지원서 복구 결과 조회
+     */
+    @GetMapping("/evaluation-sweep")
+    public ResponseEntity<EvaluationSweepReportDto> getLastEvaluationSweep() {
+        return evaluationSweeper.getLastReport()
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.noContent().build());
+    }
+
+    /**
+     * 평가 누락 지원서 복구 즉시 실행
+     */
+    @PostMapping("/evaluation-sweep")
+    public ResponseEntity<EvaluationSweepReportDto> runEvaluationSweep() {
+        return ResponseEntity.ok(evaluationSweeper.sweep());
+    }
+
+    /**
+     * 공고별 지원서 조회 (커서 페이지, sort=id|score)
      */
     @GetMapping("/job-postings/{jobPostingId}")
-    public ResponseEntity<List<ApplicationResponseDto>> getApplicationsByJobPosting(@PathVariable Long jobPostingId) {
-        List<ApplicationResponseDto> response = applicationService.getApplicationsByJobPosting(jobPostingId);
+    public ResponseEntity<CursorPageResponseDto<ApplicationResponseDto>> getApplicationsByJobPosting(
+            @PathVariable Long jobPostingId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false, defaultValue = "id") String sort) {
+        CursorPageResponseDto<ApplicationResponseDto> response = applicationService.getApplicationsByJobPosting(jobPostingId, cursor, size, sort);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 공고별 지원서 요약 목록 (이름, 이메일, 상태, 총점, AI 추천결과만 제공, 정렬/필터 지원)
+     */
+    @GetMapping("/job-postings/{jobPostingId}/summaries")
+    public ResponseEntity<ApplicationSummaryResponseDto> getApplicationSummaries(
+            @PathVariable Long jobPostingId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) String aiRecommendation,
+            @RequestParam(required = false) Integer minScore,
+            @RequestParam(required = false) Integer maxScore) {
+        return ResponseEntity.ok(applicationService.getApplicationSummaries(jobPostingId, page, size, sort, direction,
+                status, aiRecommendation, minScore, maxScore));
+    }
+
+    /**
+     * 공고별 AI 평가 통계 (이력서 항목별 점수, 자기소개서 기준별 등급 분포)
+     */
+    @GetMapping("/job-postings/{jobPostingId}/evaluation-analytics")
+    public ResponseEntity<EvaluationAnalyticsResponseDto> getEvaluationAnalytics(@PathVariable Long jobPostingId) {
+        return ResponseEntity.ok(evaluationAnalyticsService.getEvaluationAnalytics(jobPostingId));
+    }
+
+    /**
+     * 공고 내 가중 총점 순위 조회 (상위 K명: page=0&size=K)
+     */
+    @GetMapping("/job-postings/{jobPostingId}/ranking")
+    public ResponseEntity<EvaluationRankingResponseDto> getRanking(
+            @PathVariable Long jobPostingId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(evaluationAnalyticsService.getRanking(jobPostingId, page, size));
+    }
+
+    /**
+     * 공고 점수 통계 조회 (평균/표준편차/분위수/합격률, 이력서 항목별 통계)
+     */
+    @GetMapping("/job-postings/{jobPostingId}/score-statistics")
+    public ResponseEntity<ScoreStatisticsResponseDto> getScoreStatistics(@PathVariable Long jobPostingId) {
+        return ResponseEntity.ok(evaluationStatisticsService.getStatistics(jobPostingId));
+    }
+
+    /**
+     * 공고 일괄 평가 결정 (총점 기준 또는 지원서 ID 목록)
+     */
+    @PutMapping("/job-postings/{jobPostingId}/evaluation")
+    public ResponseEntity<BulkEvaluationDecisionResponseDto> decideEvaluations(
+            @PathVariable Long jobPostingId,
+            @RequestBody BulkEvaluationDecisionRequestDto request) {
+        return ResponseEntity.ok(applicationDecisionService.decide(jobPostingId, request));
+    }
+
+    /**
+     * 합격기준점수/배점 비중 모의 계산 (공고 설정은 바꾸지 않음)
+     */
+    @PostMapping("/job-postings/{jobPostingId}/passing-score-simulation")
+    public ResponseEntity<PassingScoreSimulationResponseDto> simulatePassingScore(
+            @PathVariable Long jobPostingId,
+            @RequestBody PassingScoreSimulationRequestDto request) {
+        return ResponseEntity.ok(passingScoreSimulator.simulate(jobPostingId, request));
+    }
+
+    /**
+     * 공고 순위표 조회 (메모리 순위표, applicationId 지정 시 해당 지원서의 순위/백분위 포함)
+     */
+    @GetMapping("/job-postings/{jobPostingId}/leaderboard")
+    public ResponseEntity<LeaderboardResponseDto> getLeaderboard(
+            @PathVariable Long jobPostingId,
+            @RequestParam(required = false) Long applicationId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(evaluationLeaderboardService.getLeaderboard(jobPostingId, applicationId, offset, limit));
+    }
+
+    /**
+     * 공고 내 총점이 min 이상 max 이하인 지원서 수 (메모리 순위표)
+     */
+    @GetMapping("/job-postings/{jobPostingId}/leaderboard/count")
+    public ResponseEntity<Long> countByScoreRange(
+            @PathVariable Long jobPostingId,
+            @RequestParam(defaultValue = "0") int min,
+            @RequestParam(defaultValue = "2147483647") int max) {
+        return ResponseEntity.ok(evaluationLeaderboardService.countBetween(jobPostingId, min, max));
+    }
+
+    /**
+     * 이력서 항목 점수가 minScore 이상인 지원서 ID 커서 페이지 조회 (점수 내림차순)
+     * 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회한다.
+     */
+    @GetMapping("/job-postings/{jobPostingId}/resume-items/{resumeItemId}/application-ids")
+    public ResponseEntity<CursorPageResponseDto<Long>> getApplicationIdsByResumeItemScore(
+            @PathVariable Long jobPostingId,
+            @PathVariable Long resumeItemId,
+            @RequestParam(defaultValue = "0") Integer minScore,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(evaluationAnalyticsService.findApplicationIdsByResumeItemScore(jobPostingId, resumeItemId, minScore, cursor, size));
+    }
+
     /**
      * 지원서 상세 조회 (지원자 정보, 답변, 평가 결과 포함)
      */
@@ -90,18 +261,24 @@ public class ApplicationController {
      * 2. FastAPI에서 AI 평가 수행 (백그라운드)
      * 3. 평가 완료 → send_evaluation_result_to_spring_boot() 호출
      * 4. HTTP POST → /api/applications/evaluation-result
-     * 5. 이 메서드 실행 → 평가 결과를 Spring Boot DB에 저장
+     * 5. 이 메서드 실행 → 평가 결과를 수신 저널에 기록하고 202 응답
+     * 6. EvaluationIntakeJournal 소비자가 지원서별 수신 순서대로 DB에 저장
      * 
      * @param evaluationResult FastAPI에서 전송된 AI 평가 결과
-     * @return 처리 결과 메시지
+     * @return 접수 결과 메시지
      */
     @PostMapping("/evaluation-result")
     public ResponseEntity<String> processEvaluationResult(@RequestBody EvaluationResultRequestDto evaluationResult) {
         try {
             log.info("FastAPI로부터 평가 결과 수신 - 지원자: {}, 지원서 ID: {}", evaluationResult.getApplicantName(), evaluationResult.getApplicationId());
             
-            applicationService.processEvaluationResult(evaluationResult);
-            return ResponseEntity.ok("평가 결과가 성공적으로 처리되었습니다.");
+            long seq = evaluationIntakeJournal.append(evaluationResult);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body("평가 결과가 접수되었습니다. (순번: " + seq + ")");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IntakeBacklogFullException e) {
+            log.warn("평가 결과 접수 보류 - 지원서 ID: {}, 사유: {}", evaluationResult.getApplicationId(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").body(e.getMessage());
         } catch (Exception e) {
             log.error("평가 결과 처리 실패 - 지원자: {}, 지원서 ID: {}", evaluationResult.getApplicantName(), evaluationResult.getApplicationId(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -109,6 +286,16 @@ public class ApplicationController {
         }
     }
 
+    /**
+     * AI 평가 결과 일괄 처리 (FastAPI에서 밀린 결과를 NDJSON 으로 한 번에 전송)
+     * 한 줄에 EvaluationResultRequestDto 하나씩 담고, 줄 번호별 처리 결과를 돌려준다.
+     */
+    @PostMapping(value = "/evaluation-results",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, "application/jsonl", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<EvaluationResultBatchResponseDto> processEvaluationResults(InputStream body) throws IOException {
+        return ResponseEntity.ok(evaluationResultIngestService.ingest(body));
+    }
+
     /**
      * 평가 결과 조회
      */
@@ -3,9 +3,12 @@ package com.jangyeonguk.backend.controller;
 import com.jangyeonguk.backend.dto.jobposting.JobPostingCreateRequestDto;
 import com.jangyeonguk.backend.dto.jobposting.JobPostingResponseDto;
 import com.jangyeonguk.backend.service.JobPostingService;
+import com.jangyeonguk.backend.service.JobPostingStreamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -21,6 +24,7 @@ import org.springframework.http.HttpStatus;
 public class JobPostingController {
 
     private final JobPostingService jobPostingService;
+    private final JobPostingStreamService jobPostingStreamService;
 
     /**
      * 채용공고 등록
@@ -62,11 +66,13 @@ public class JobPostingController {
     }
 
     /**
-     * 채용공고와 모든 지원서 데이터 조회 (통합 API)
+     * 채용공고와 모든 지원서 데이터 조회 (통합 API, 지원서를 읽는 대로 스트리밍)
      */
     @GetMapping("/{id}/with-applications")
-    public ResponseEntity<JobPostingResponseDto> getJobPostingWithApplications(@PathVariable Long id) {
-        JobPostingResponseDto response = jobPostingService.getJobPostingWithApplications(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<StreamingResponseBody> getJobPostingWithApplications(@PathVariable Long id) {
+        StreamingResponseBody body = jobPostingStreamService.streamJobPostingWithApplications(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.jangyeonguk.backend.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * AI 평가 전송 아웃박스 엔티티
+ * 지원서 저장과 같은 트랜잭션에서 기록되고, 커밋 이후 릴레이가 배치로 꺼내 AI 서버에 전송한다.
+ */
+@Entity
+@Table(name = "ai_dispatch_outbox",
+        indexes = @Index(name = "idx_ai_dispatch_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiDispatchOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 지원서당 하나의 아웃박스 행만 존재 (재전송은 같은 행의 상태를 되돌려서 처리)
+    @Column(name = "application_id", nullable = false, unique = true)
+    private Long applicationId;
+
+    @Column(name = "job_posting_id", nullable = false)
+    private Long jobPostingId;
+
+    // 공고의 평가 마감일 (JobPosting.evaluationEndDate 비정규화, 마감이 빠른 공고부터 전송)
+    @Column(name = "evaluation_deadline")
+    private LocalDateTime evaluationDeadline;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DispatchStatus status;
+
+    // 전송 시도 횟수
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    // 스위퍼가 실패/결과 미수신 행을 다시 대기시킨 횟수 (ai.sweeper.max-requeues-per-application 까지만 복구)
+    @Column(name = "sweep_requeues", nullable = false)
+    @Builder.Default
+    private Integer sweepRequeues = 0;
+
+    // 다음 전송 가능 시각 (실패 시 백오프 적용)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 릴레이가 전송을 위해 선점한 시각 (오래된 선점은 복구 대상)
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    // 정규화한 답변 내용 + 루브릭 해시 (평가 결과 캐시 키, 결과 수신 시 캐시 적재에 사용)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+
+    /**
+     * 새로 제출된 지원서의 전송 대기 행 생성
+     */
+    public static AiDispatchOutbox pending(Application application) {
+        return AiDispatchOutbox.builder()
+                .applicationId(application.getId())
+                .jobPostingId(application.getJobPosting().getId())
+                .evaluationDeadline(application.getJobPosting().getEvaluationEndDate())
+                .status(DispatchStatus.PENDING)
+                .build();
+    }
+}
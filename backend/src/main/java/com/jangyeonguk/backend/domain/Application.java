@@ -1,9 +1,11 @@
 package com.jangyeonguk.backend.domain;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -11,10 +13,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,9 +27,15 @@ import lombok.Setter;
 
 /**
  * 지원서 엔티티
+ * 평가 결과는 EvaluationResult.application 단방향으로만 매핑한다. 역방향 OneToOne 은 프록시가 불가능해
+ * 지원서를 로드할 때마다 평가 결과 조회가 추가로 나가므로, 필요하면 EvaluationResultRepository 로 일괄 조회한다.
  */
 @Entity
-@Table(name = "applications")
+@Table(name = "applications",
+        indexes = {
+                @Index(name = "idx_applications_status_created_at", columnList = "status, created_at"),
+                @Index(name = "idx_applications_posting_status", columnList = "job_posting_id, status")
+        })
 @Getter
 @Setter
 @Builder
@@ -49,9 +58,6 @@ public class Application {
     @JoinColumn(name = "job_posting_id")
     private JobPosting jobPosting;
 
-    @OneToOne(mappedBy = "application", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private EvaluationResult evaluationResult;
-
     @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
     private List<ResumeItemAnswer> resumeItemAnswers = new ArrayList<>();
@@ -60,12 +66,12 @@ public class Application {
     @Builder.Default
     private List<CoverLetterQuestionAnswer> coverLetterQuestionAnswers = new ArrayList<>();
 
-    // EvaluationResult 편의 메서드
-    public void setEvaluationResult(EvaluationResult evaluationResult) {
-        this.evaluationResult = evaluationResult;
-        if (evaluationResult != null && evaluationResult.getApplication() != this) {
-            evaluationResult.setApplication(this);
-        }
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt; // 생성일시
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
     }
 
     // ResumeItemAnswer 편의 메서드
@@ -15,8 +15,12 @@ import lombok.*;
 @AllArgsConstructor
 public class CoverLetterQuestionAnswer {
 
+    // IDENTITY는 INSERT 배치를 막으므로 테이블 기반 pooled 생성기 사용 (allocationSize 단위로 ID 선점)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "cover_letter_question_answer_id")
+    @TableGenerator(name = "cover_letter_question_answer_id", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "cover_letter_question_answers", allocationSize = 50)
     private Long id;
 
     @Column(name = "answer_content", columnDefinition = "TEXT")
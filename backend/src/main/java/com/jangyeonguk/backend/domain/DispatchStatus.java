@@ -0,0 +1,18 @@
+package com.jangyeonguk.backend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * AI 평가 전송 상태 열거형
+ */
+@Getter
+@AllArgsConstructor
+public enum DispatchStatus {
+    PENDING("전송대기"),
+    IN_FLIGHT("전송중"),
+    SENT("전송완료"),
+    FAILED("전송실패");
+
+    private final String description;
+}
@@ -0,0 +1,55 @@
+package com.jangyeonguk.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 자기소개서 평가 기준별 AI 등급 엔티티 (EvaluationResult.coverLetterScores 의 정규화 사본)
+ * 문항 답변 평가 하나당 한 행이며, 평가 결과 수신 시 EvaluationResultWriter 가 지원서 단위로 다시 기록한다.
+ */
+@Entity
+@Table(name = "evaluation_cover_letter_grades",
+        indexes = {
+                @Index(name = "idx_eval_cover_letter_grades_posting_question_criterion_grade",
+                        columnList = "job_posting_id, cover_letter_question_id, criterion_name, grade"),
+                @Index(name = "idx_eval_cover_letter_grades_application", columnList = "application_id")
+        })
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationCoverLetterGrade {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "job_posting_id", nullable = false)
+    private Long jobPostingId;
+
+    @Column(name = "cover_letter_question_id", nullable = false)
+    private Long coverLetterQuestionId;
+
+    @Column(name = "criterion_name", nullable = false)
+    private String criterionName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Grade grade;
+}
@@ -8,11 +8,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,7 +24,9 @@ import lombok.NoArgsConstructor;
  * 평가 결과 엔티티
  */
 @Entity
-@Table(name = "evaluation_results")
+@Table(name = "evaluation_results",
+        uniqueConstraints = @UniqueConstraint(name = "uk_evaluation_results_application_id", columnNames = "application_id"),
+        indexes = @Index(name = "idx_evaluation_results_posting_total_score", columnList = "job_posting_id, total_score"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,7 +46,13 @@ public class EvaluationResult {
     private JobPosting jobPosting;
 
     @Column(name = "total_score", nullable = false)
-    private Integer totalScore;
+    private Integer totalScore; // 공고 배점 비중을 반영한 가중 총점
+
+    @Column(name = "resume_raw_score")
+    private Double resumeRawScore; // 이력서 항목 점수 합
+
+    @Column(name = "cover_letter_raw_score")
+    private Double coverLetterRawScore; // 자기소개서 등급을 scorePerGrade 로 환산한 점수 합
 
     @Column(name = "resume_scores", columnDefinition = "TEXT")
     private String resumeScores; // JSON 형태로 저장
@@ -53,9 +63,15 @@ public class EvaluationResult {
     @Column(name = "overall_evaluation", columnDefinition = "TEXT")
     private String overallEvaluation; // JSON 형태로 저장
 
+    @Column(name = "ai_recommendation", length = 50)
+    private String aiRecommendation; // AI 추천결과 (overall_evaluation 의 aiRecommendation, 목록 조회용)
+
     @Column(name = "hr_comment", columnDefinition = "TEXT")
     private String hrComment; // HR 담당자 추가 코멘트
 
+    @Column(name = "payload_hash", length = 64, columnDefinition = "CHAR(64)")
+    private String payloadHash; // AI 평가 내용 해시 (같은 결과 재전송 시 쓰기 생략)
+
     @Column(name = "created_at")
     private LocalDateTime createdAt; // 생성일시
 
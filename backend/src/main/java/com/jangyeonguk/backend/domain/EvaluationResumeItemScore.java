@@ -0,0 +1,48 @@
+package com.jangyeonguk.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 이력서 항목별 AI 점수 엔티티 (EvaluationResult.resumeScores 의 정규화 사본)
+ * 평가 결과 수신 시 EvaluationResultWriter 가 지원서 단위로 다시 기록한다.
+ */
+@Entity
+@Table(name = "evaluation_resume_item_scores",
+        indexes = {
+                @Index(name = "idx_eval_resume_item_scores_posting_item_score", columnList = "job_posting_id, resume_item_id, score"),
+                @Index(name = "idx_eval_resume_item_scores_application", columnList = "application_id")
+        })
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationResumeItemScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "job_posting_id", nullable = false)
+    private Long jobPostingId;
+
+    @Column(name = "resume_item_id", nullable = false)
+    private Long resumeItemId;
+
+    @Column(nullable = false)
+    private Integer score;
+}
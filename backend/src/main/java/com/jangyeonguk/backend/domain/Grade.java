@@ -15,4 +15,18 @@ public enum Grade {
     POOR("미흡");
 
     private final String description;
+
+    /**
+     * AI 응답의 등급 문자열 변환 (대소문자/공백 무시, 알 수 없는 값은 null)
+     */
+    public static Grade parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Grade.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
\ No newline at end of file
@@ -109,6 +109,10 @@ public class JobPosting {
     @Column(name = "manual_review")
     private Boolean manualReview; // 수동 검토여부
 
+    // AI 서버에 마지막으로 동기화된 루브릭 스냅샷 버전 (스냅샷 JSON의 SHA-256, 미동기화 시 null)
+    @Column(name = "rubric_version", length = 64)
+    private String rubricVersion;
+
     // 공고 상태: 예정/진행/마감/평가완료
     @Enumerated(EnumType.STRING)
     @Column(name = "posting_status")
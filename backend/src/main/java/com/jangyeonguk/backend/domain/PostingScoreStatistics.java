@@ -0,0 +1,59 @@
+package com.jangyeonguk.backend.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 공고별 점수 통계 체크포인트 엔티티
+ * 메모리 점수 분포를 주기적으로 저장하고, 재시작 시 결과 수/점수 합이 DB와 같으면 전체 재집계 없이 복원한다.
+ */
+@Entity
+@Table(name = "posting_score_statistics")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostingScoreStatistics {
+
+    @Id
+    @Column(name = "job_posting_id")
+    private Long jobPostingId;
+
+    // 총점 분포 (JSON 배열, 인덱스 = 점수, 조회용이며 복원은 application_scores 로 함)
+    @Column(name = "total_histogram", columnDefinition = "TEXT")
+    private String totalHistogram;
+
+    // 이력서 항목별 점수 분포 (JSON, 항목 ID → 배열)
+    @Column(name = "resume_item_histograms", columnDefinition = "MEDIUMTEXT")
+    private String resumeItemHistograms;
+
+    // 지원서별 반영 점수 (JSON, 지원서 ID → [총점, 항목 ID, 점수, 항목 ID, 점수, ...]), 재평가 시 이전 점수를 찾는 데 사용
+    @Column(name = "application_scores", columnDefinition = "MEDIUMTEXT")
+    private String applicationScores;
+
+    // 체크포인트 시점 검증값 (evaluation_results / evaluation_resume_item_scores 의 건수와 점수 합)
+    @Column(name = "result_count", nullable = false)
+    private Long resultCount;
+
+    @Column(name = "total_score_sum", nullable = false)
+    private Long totalScoreSum;
+
+    @Column(name = "item_score_count", nullable = false)
+    private Long itemScoreCount;
+
+    @Column(name = "item_score_sum", nullable = false)
+    private Long itemScoreSum;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
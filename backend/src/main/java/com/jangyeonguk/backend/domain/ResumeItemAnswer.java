@@ -15,8 +15,12 @@ import lombok.*;
 @Builder
 public class ResumeItemAnswer {
 
+    // IDENTITY는 INSERT 배치를 막으므로 테이블 기반 pooled 생성기 사용 (allocationSize 단위로 ID 선점)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "resume_item_answer_id")
+    @TableGenerator(name = "resume_item_answer_id", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "resume_item_answers", allocationSize = 50)
     private Long id;
 
     // 제출한 이력서 답변 내용
@@ -0,0 +1,141 @@
+package com.jangyeonguk.backend.domain;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공고 채점 기준 (가중 총점 계산용)
+ * 총점 = 이력서 원점수 / 이력서 만점 × 이력서 배점 비중 + 자기소개서 원점수 / 자기소개서 만점 × 자기소개서 배점 비중
+ * 평가 결과 요청은 저장 측(EvaluationResultWriter)에서 항목별 점수 / 기준별 등급으로 풀어서 넘긴다.
+ *
+ * @param resumeItemMaxScores 이력서 항목 ID → 항목 최대 점수
+ * @param gradeScores         자기소개서 문항 ID → 평가기준 이름 → 등급별 점수(scorePerGrade)
+ */
+public record ScoringRubric(Long jobPostingId,
+                            int resumeScoreWeight,
+                            int coverLetterScoreWeight,
+                            Map<Long, Integer> resumeItemMaxScores,
+                            Map<Long, Map<String, Map<Grade, Integer>>> gradeScores) {
+
+    public double resumeMaxScore() {
+        return resumeItemMaxScores.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * 평가기준마다 가장 높은 등급 점수의 합
+     */
+    public double coverLetterMaxScore() {
+        return gradeScores.values().stream()
+                .flatMap(criteria -> criteria.values().stream())
+                .mapToInt(scores -> scores.values().stream().mapToInt(Integer::intValue).max().orElse(0))
+                .sum();
+    }
+
+    /**
+     * 원점수 1점당 총점 (만점이 0이면 해당 영역은 총점에 반영하지 않음)
+     */
+    public double resumeFactor() {
+        double max = resumeMaxScore();
+        return max > 0 ? resumeScoreWeight / max : 0;
+    }
+
+    public double coverLetterFactor() {
+        double max = coverLetterMaxScore();
+        return max > 0 ? coverLetterScoreWeight / max : 0;
+    }
+
+    /**
+     * 총점 환산 비율이 같은지 (같으면 저장된 총점을 다시 계산할 필요가 없음)
+     */
+    public boolean hasSameFactors(ScoringRubric other) {
+        return other != null
+                && Double.compare(resumeFactor(), other.resumeFactor()) == 0
+                && Double.compare(coverLetterFactor(), other.coverLetterFactor()) == 0;
+    }
+
+    public int weightedTotal(double resumeRawScore, double coverLetterRawScore) {
+        return (int) Math.round(resumeRawScore * resumeFactor() + coverLetterRawScore * coverLetterFactor());
+    }
+
+    /**
+     * 공고의 이력서 항목 점수만 0 ~ 항목 최대 점수로 잘라서 반환
+     * 공고에 없는 항목 ID 의 점수는 만점을 알 수 없으므로 버린다 (총점이 배점 비중 합을 넘지 않도록).
+     *
+     * @param itemScores 이력서 항목 ID → 점수
+     */
+    public Map<Long, Integer> cappedResumeItemScores(Map<Long, Integer> itemScores) {
+        Map<Long, Integer> capped = new LinkedHashMap<>();
+        itemScores.forEach((resumeItemId, score) -> {
+            Integer max = resumeItemMaxScores.get(resumeItemId);
+            if (max != null && score != null) {
+                capped.put(resumeItemId, Math.max(0, Math.min(score, max)));
+            }
+        });
+        return capped;
+    }
+
+    /**
+     * 공고의 자기소개서 문항/평가기준에 해당하는 등급만 남김 (scorePerGrade 가 없는 기준의 등급은 원점수에 반영되지 않으므로 버림)
+     *
+     * @param grades 자기소개서 문항 ID → 평가기준 이름 → 받은 등급 목록
+     */
+    public Map<Long, Map<String, List<Grade>>> knownGrades(Map<Long, Map<String, List<Grade>>> grades) {
+        Map<Long, Map<String, List<Grade>>> known = new LinkedHashMap<>();
+        grades.forEach((questionId, criteria) -> {
+            Map<String, Map<Grade, Integer>> questionCriteria = gradeScores.get(questionId);
+            if (questionCriteria == null) {
+                return;
+            }
+            criteria.forEach((criterionName, criterionGrades) -> {
+                if (questionCriteria.containsKey(criterionName)) {
+                    known.computeIfAbsent(questionId, id -> new LinkedHashMap<>()).put(criterionName, criterionGrades);
+                }
+            });
+        });
+        return known;
+    }
+
+    /**
+     * 이력서 원점수 (항목 점수 합, cappedResumeItemScores 와 같은 기준으로 잘라냄)
+     *
+     * @param itemScores 이력서 항목 ID → 점수
+     */
+    public double resumeRawScore(Map<Long, Integer> itemScores) {
+        return cappedResumeItemScores(itemScores).values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * 자기소개서 원점수 (등급을 평가기준의 scorePerGrade 로 환산, 같은 기준을 여러 번 평가했으면 평균)
+     *
+     * @param grades 자기소개서 문항 ID → 평가기준 이름 → 받은 등급 목록
+     */
+    public double coverLetterRawScore(Map<Long, Map<String, List<Grade>>> grades) {
+        double sum = 0;
+        for (Map.Entry<Long, Map<String, List<Grade>>> question : grades.entrySet()) {
+            Map<String, Map<Grade, Integer>> criteria = gradeScores.get(question.getKey());
+            if (criteria == null) {
+                continue;
+            }
+            for (Map.Entry<String, List<Grade>> criterion : question.getValue().entrySet()) {
+                Map<Grade, Integer> scores = criteria.get(criterion.getKey());
+                if (scores == null) {
+                    continue;
+                }
+                int total = 0;
+                int count = 0;
+                for (Grade grade : criterion.getValue()) {
+                    Integer score = scores.get(grade);
+                    if (score != null) {
+                        total += score;
+                        count++;
+                    }
+                }
+                if (count > 0) {
+                    sum += (double) total / count;
+                }
+            }
+        }
+        return sum;
+    }
+}
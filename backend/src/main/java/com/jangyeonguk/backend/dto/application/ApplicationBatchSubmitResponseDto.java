@@ -0,0 +1,22 @@
+package com.jangyeonguk.backend.dto.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 서버 지원서 배치 제출 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationBatchSubmitResponseDto {
+
+    private Long jobPostingId;
+    private List<Long> acceptedApplicationIds = new ArrayList<>(); // 평가 대기열에 등록된 지원서 ID
+    private List<Long> failedApplicationIds = new ArrayList<>(); // 검증 실패 등으로 거절된 지원서 ID (재전송 대상)
+    private boolean rubricMissing; // AI 서버에 해당 루브릭 버전이 없어 거절된 경우 (루브릭 재동기화 필요)
+}
@@ -2,6 +2,9 @@ package com.jangyeonguk.backend.dto.application;
 
 import com.jangyeonguk.backend.domain.Application;
 import com.jangyeonguk.backend.domain.ApplicationStatus;
+import com.jangyeonguk.backend.domain.CoverLetterQuestionAnswer;
+import com.jangyeonguk.backend.domain.EvaluationResult;
+import com.jangyeonguk.backend.domain.ResumeItemAnswer;
 import com.jangyeonguk.backend.dto.coverletter.CoverLetterQuestionAnswerResponseDto;
 import com.jangyeonguk.backend.dto.evaluation.EvaluationResultResponseDto;
 import com.jangyeonguk.backend.dto.resume.ResumeItemAnswerResponseDto;
@@ -56,9 +59,22 @@ public class ApplicationResponseDto {
      * Application 엔티티로부터 ApplicationResponseDto 생성
      * 
      * @param application 변환할 Application 엔티티
+     * @param evaluationResult 지원서의 평가 결과 (없으면 null)
      * @return ApplicationResponseDto (지원서의 모든 관련 정보 포함)
      */
-    public static ApplicationResponseDto from(Application application) {
+    public static ApplicationResponseDto from(Application application, EvaluationResult evaluationResult) {
+        return from(application, application.getResumeItemAnswers(), application.getCoverLetterQuestionAnswers(),
+                evaluationResult);
+    }
+
+    /**
+     * 미리 일괄 조회한 답변/평가 결과로 ApplicationResponseDto 생성 (지원서의 LAZY 컬렉션을 건드리지 않음)
+     * 답변은 항목/질문이 함께 로드되어 있어야 한다.
+     */
+    public static ApplicationResponseDto from(Application application,
+                                              List<ResumeItemAnswer> resumeItemAnswers,
+                                              List<CoverLetterQuestionAnswer> coverLetterQuestionAnswers,
+                                              EvaluationResult evaluationResult) {
         return ApplicationResponseDto.builder()
                 .id(application.getId())
                 .status(application.getStatus())
@@ -72,18 +88,18 @@ public class ApplicationResponseDto {
                 .jobPostingId(application.getJobPosting() != null ?
                         application.getJobPosting().getId() : null)
                 // 이력서 답변 목록 매핑 (null 안전, 빈 리스트 기본값)
-                .resumeItemAnswers(application.getResumeItemAnswers() != null ?
-                        application.getResumeItemAnswers().stream()
+                .resumeItemAnswers(resumeItemAnswers != null ?
+                        resumeItemAnswers.stream()
                                 .map(ResumeItemAnswerResponseDto::from)
                                 .collect(Collectors.toList()) : new ArrayList<>())
                 // 자기소개서 답변 목록 매핑 (null 안전, 빈 리스트 기본값)
-                .coverLetterQuestionAnswers(application.getCoverLetterQuestionAnswers() != null ?
-                        application.getCoverLetterQuestionAnswers().stream()
+                .coverLetterQuestionAnswers(coverLetterQuestionAnswers != null ?
+                        coverLetterQuestionAnswers.stream()
                                 .map(CoverLetterQuestionAnswerResponseDto::from)
                                 .collect(Collectors.toList()) : new ArrayList<>())
                 // 평가 결과 매핑 (AI 평가 완료 후에만 존재, null 안전)
-                .evaluationResult(application.getEvaluationResult() != null ?
-                        EvaluationResultResponseDto.from(application.getEvaluationResult()) : null)
+                .evaluationResult(evaluationResult != null ?
+                        EvaluationResultResponseDto.from(evaluationResult) : null)
                 .build();
     }
 }
\ No newline at end of file
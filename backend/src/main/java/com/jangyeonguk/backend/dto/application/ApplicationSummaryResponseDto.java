@@ -0,0 +1,54 @@
+package com.jangyeonguk.backend.dto.application;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import com.jangyeonguk.backend.domain.ApplicationStatus;
+import com.jangyeonguk.backend.repository.ApplicationRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공고별 지원서 요약 목록 응답 DTO (답변 본문은 상세 조회에서만 제공)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationSummaryResponseDto {
+
+    private Long jobPostingId;
+    private int page;
+    private int size;
+    private long totalElements; // 필터에 맞는 지원서 수
+    private List<Summary> items;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Summary {
+        private Long applicationId;
+        private String applicantName;
+        private String applicantEmail;
+        private ApplicationStatus status;
+        private Integer totalScore; // 평가 전이면 null
+        private String aiRecommendation; // 평가 전이면 null
+    }
+
+    public static ApplicationSummaryResponseDto from(Long jobPostingId, Page<ApplicationRepository.ApplicationSummary> page) {
+        return ApplicationSummaryResponseDto.builder()
+                .jobPostingId(jobPostingId)
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .items(page.getContent().stream()
+                        .map(summary -> new Summary(summary.getApplicationId(), summary.getApplicantName(), summary.getApplicantEmail(),
+                                summary.getStatus(), summary.getTotalScore(), summary.getAiRecommendation()))
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.jangyeonguk.backend.dto.application;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공고 일괄 평가 결정 요청 DTO
+ * applicationIds 가 있으면 그 지원서들에, 없으면 총점이 minScore 이상 maxScore 이하인 지원서들에 적용한다.
+ * 어느 경우든 평가 결과가 있는 해당 공고의 지원서만 대상이다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEvaluationDecisionRequestDto {
+
+    private String status; // ACCEPTED, REJECTED, ON_HOLD
+    private Integer minScore; // 총점 하한 (포함)
+    private Integer maxScore; // 총점 상한 (포함)
+    private List<Long> applicationIds; // 명시적 대상 지원서 ID
+    private String comment; // HR 코멘트 (없으면 기존 코멘트 유지)
+}
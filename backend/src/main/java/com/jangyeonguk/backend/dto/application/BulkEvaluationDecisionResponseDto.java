@@ -0,0 +1,23 @@
+package com.jangyeonguk.backend.dto.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공고 일괄 평가 결정 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkEvaluationDecisionResponseDto {
+
+    private Long jobPostingId;
+    private String status;
+    private int targetCount; // 조건에 맞는 평가 완료 지원서 수
+    private int updatedCount; // 상태가 실제로 바뀐 지원서 수
+    private int unchangedCount; // 이미 같은 상태였던 지원서 수
+    private int skippedCount; // 요청 ID 중 해당 공고의 평가 완료 지원서가 아니어서 제외된 수
+}
@@ -0,0 +1,24 @@
+package com.jangyeonguk.backend.dto.application;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서(키셋) 페이지 응답 DTO
+ * 다음 페이지는 nextCursor 를 cursor 파라미터로 넘겨 조회한다. 마지막 페이지면 nextCursor 는 null 이다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponseDto<T> {
+
+    private List<T> items;
+    private int size; // 요청(보정된) 페이지 크기
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,74 @@
+package com.jangyeonguk.backend.dto.evaluation;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.jangyeonguk.backend.domain.Grade;
+import com.jangyeonguk.backend.repository.EvaluationCoverLetterGradeRepository;
+import com.jangyeonguk.backend.repository.EvaluationResumeItemScoreRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공고별 AI 평가 항목/기준 통계 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationAnalyticsResponseDto {
+
+    private Long jobPostingId;
+    private List<ResumeItemStats> resumeItems; // 이력서 항목별 점수 통계
+    private List<CoverLetterCriterionStats> coverLetterCriteria; // 자기소개서 문항/기준별 등급 분포
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResumeItemStats {
+        private Long resumeItemId;
+        private Long count;
+        private Double average;
+        private Integer minScore;
+        private Integer maxScore;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CoverLetterCriterionStats {
+        private Long coverLetterQuestionId;
+        private String criterionName;
+        private Map<Grade, Long> gradeCounts; // 등급별 건수 (EXCELLENT → POOR 순)
+    }
+
+    public static EvaluationAnalyticsResponseDto from(Long jobPostingId,
+                                                      List<EvaluationResumeItemScoreRepository.ResumeItemScoreStats> resumeItemStats,
+                                                      List<EvaluationCoverLetterGradeRepository.GradeCount> gradeCounts) {
+        List<ResumeItemStats> resumeItems = resumeItemStats.stream()
+                .map(stats -> new ResumeItemStats(stats.getResumeItemId(), stats.getScoreCount(), stats.getAverage(),
+                        stats.getMinScore(), stats.getMaxScore()))
+                .toList();
+
+        // 쿼리가 문항/기준 순으로 정렬되어 있으므로 순서를 유지하며 묶는다
+        Map<String, CoverLetterCriterionStats> criteria = new LinkedHashMap<>();
+        for (EvaluationCoverLetterGradeRepository.GradeCount gradeCount : gradeCounts) {
+            String key = gradeCount.getCoverLetterQuestionId() + "\u0000" + gradeCount.getCriterionName();
+            criteria.computeIfAbsent(key, k -> new CoverLetterCriterionStats(gradeCount.getCoverLetterQuestionId(),
+                            gradeCount.getCriterionName(), new EnumMap<>(Grade.class)))
+                    .getGradeCounts().put(gradeCount.getGrade(), gradeCount.getGradeCount());
+        }
+
+        return EvaluationAnalyticsResponseDto.builder()
+                .jobPostingId(jobPostingId)
+                .resumeItems(resumeItems)
+                .coverLetterCriteria(new ArrayList<>(criteria.values()))
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.jangyeonguk.backend.dto.evaluation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.jangyeonguk.backend.repository.AiDispatchOutboxRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공고별 AI 평가 대기열 현황 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationQueueStatusResponseDto {
+
+    private Long jobPostingId;
+    private LocalDateTime evaluationDeadline; // 평가 마감일 (우선순위 기준)
+    private Long pendingCount; // 전송 대기 건수
+    private Long inFlightCount; // 전송중 건수
+    private LocalDateTime oldestCreatedAt; // 가장 오래 기다린 지원서의 등록 시각
+    private Long oldestWaitSeconds; // 가장 오래 기다린 지원서의 대기 시간(초)
+
+    public static EvaluationQueueStatusResponseDto from(AiDispatchOutboxRepository.QueueDepth depth, LocalDateTime now) {
+        return EvaluationQueueStatusResponseDto.builder()
+                .jobPostingId(depth.getJobPostingId())
+                .evaluationDeadline(depth.getEvaluationDeadline())
+                .pendingCount(depth.getPendingCount())
+                .inFlightCount(depth.getInFlightCount())
+                .oldestCreatedAt(depth.getOldestCreatedAt())
+                .oldestWaitSeconds(depth.getOldestCreatedAt() != null ?
+                    Duration.between(depth.getOldestCreatedAt(), now).getSeconds() : null)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.jangyeonguk.backend.dto.evaluation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jangyeonguk.backend.domain.ApplicationStatus;
+import com.jangyeonguk.backend.repository.EvaluationResultRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공고별 총점 순위 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationRankingResponseDto {
+
+    private Long jobPostingId;
+    private int page;
+    private int size;
+    private long totalElements; // 평가 결과가 있는 지원서 수
+    private List<RankedApplication> rankings;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RankedApplication {
+        private long rank; // 1부터 시작하는 순위
+        private Long applicationId;
+        private String applicantName;
+        private ApplicationStatus status;
+        private Integer totalScore;
+        private Double resumeRawScore;
+        private Double coverLetterRawScore;
+    }
+
+    public static EvaluationRankingResponseDto from(Long jobPostingId, int page, int size, long totalElements,
+                                                    List<EvaluationResultRepository.RankedResult> results) {
+        List<RankedApplication> rankings = new ArrayList<>(results.size());
+        long rank = (long) page * size;
+        for (EvaluationResultRepository.RankedResult result : results) {
+            rankings.add(new RankedApplication(++rank, result.getApplicationId(), result.getApplicantName(), result.getStatus(),
+                    result.getTotalScore(), result.getResumeRawScore(), result.getCoverLetterRawScore()));
+        }
+        return EvaluationRankingResponseDto.builder()
+                .jobPostingId(jobPostingId)
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .rankings(rankings)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.jangyeonguk.backend.dto.evaluation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 평가 결과 일괄 수신(NDJSON) 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationResultBatchResponseDto {
+
+    private int received; // 수신한 결과 수
+    private int succeeded; // 저장된 결과 수
+    private int failed; // 저장하지 못한 결과 수
+    @Builder.Default
+    private List<ItemStatus> items = new ArrayList<>(); // 줄 순서대로의 처리 결과
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemStatus {
+        private int line; // NDJSON 줄 번호 (1부터)
+        private Long applicationId;
+        private String status; // SUCCESS, FAILED
+        private String message; // 실패 사유
+    }
+}
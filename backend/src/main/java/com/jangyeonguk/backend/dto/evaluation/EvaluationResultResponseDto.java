@@ -20,7 +20,9 @@ public class EvaluationResultResponseDto {
     private String applicantName;
     private String applicantEmail;
     private Long jobPostingId;
-    private Integer totalScore;
+    private Integer totalScore; // 가중 총점
+    private Double resumeRawScore; // 이력서 원점수
+    private Double coverLetterRawScore; // 자기소개서 원점수
     private String resumeScores;
     private String coverLetterScores;
     private String overallEvaluation;
@@ -38,6 +40,8 @@ public class EvaluationResultResponseDto {
                 .jobPostingId(evaluationResult.getJobPosting() != null ? 
                     evaluationResult.getJobPosting().getId() : null)
                 .totalScore(evaluationResult.getTotalScore())
+                .resumeRawScore(evaluationResult.getResumeRawScore())
+                .coverLetterRawScore(evaluationResult.getCoverLetterRawScore())
                 .resumeScores(evaluationResult.getResumeScores())
                 .coverLetterScores(evaluationResult.getCoverLetterScores())
                 .overallEvaluation(evaluationResult.getOverallEvaluation())
@@ -0,0 +1,34 @@
+package com.jangyeonguk.backend.dto.evaluation;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 평가 누락 지원서 복구(스윕) 실행 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationSweepReportDto {
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private int scanned; // 평가 결과 없이 기준 시간을 넘긴 지원서 수
+    private int enqueued; // 전송 대기 행 자체가 없어 새로 등록한 수
+    private int requeuedFailed; // 전송 실패로 끝난 행을 다시 대기시킨 수
+    private int requeuedSent; // 전송은 되었지만 결과가 오지 않아 다시 대기시킨 수
+    private int skippedInProgress; // 전송 대기/전송중이거나 결과 대기 시간이 남아 건너뛴 수
+    private int skippedDisabled; // AI 자동평가가 꺼진 공고라 건너뛴 수
+    private int skippedExhausted; // 재대기 횟수 한도를 넘어 더 이상 복구하지 않는 수
+    private int backfilledCreatedAt; // 생성일시가 없어 기준 시각으로 채운 지원서 수
+    private boolean limitReached; // 실행당 최대 복구 건수에 도달하여 중단했는지 여부
+
+    public int getRecovered() {
+        return enqueued + requeuedFailed + requeuedSent;
+    }
+}
@@ -0,0 +1,30 @@
+package com.jangyeonguk.backend.dto.evaluation;
+
+import java.util.List;
+
+import com.jangyeonguk.backend.service.PostingLeaderboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공고 순위표 응답 DTO (메모리 순위표 기준)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardResponseDto {
+
+    private Long jobPostingId;
+    private int totalCount; // 평가 결과가 있는 지원서 수
+    private List<PostingLeaderboard.Entry> top; // 상위 지원서 (순위, 점수)
+
+    // applicationId 를 지정한 경우에만 채워짐
+    private Long applicationId;
+    private Integer score;
+    private Long rank; // 동점자는 같은 순위
+    private Double percentile; // 0 ~ 100
+}
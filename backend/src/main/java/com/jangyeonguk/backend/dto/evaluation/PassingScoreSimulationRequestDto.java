@@ -0,0 +1,29 @@
+package com.jangyeonguk.backend.dto.evaluation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 합격기준점수/배점 비중 모의 계산 요청 DTO
+ * 비어 있는 목록은 공고의 현재 값 하나로 계산한다. 결과는 기준점수 × 배점 비중의 모든 조합이다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PassingScoreSimulationRequestDto {
+
+    private List<Integer> passingScores = new ArrayList<>(); // 후보 합격기준점수
+    private List<WeightSplit> weightSplits = new ArrayList<>(); // 후보 배점 비중 (각 0 이상, 합계 = 공고 총점)
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WeightSplit {
+        private Integer resumeScoreWeight; // 이력서 배점 비중
+        private Integer coverLetterScoreWeight; // 자기소개서 배점 비중
+    }
+}
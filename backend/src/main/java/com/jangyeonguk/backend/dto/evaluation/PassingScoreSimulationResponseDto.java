@@ -0,0 +1,42 @@
+package com.jangyeonguk.backend.dto.evaluation;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 합격기준점수/배점 비중 모의 계산 응답 DTO
+ * 합격 변동은 현재 합격기준점수와 저장된 총점 기준의 합격 여부와 비교한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PassingScoreSimulationResponseDto {
+
+    private Long jobPostingId;
+    private int applicantCount; // 원점수가 저장된 평가 결과가 있는 지원서 수
+    private Integer currentPassingScore;
+    private int currentPassCount;
+    private List<Scenario> scenarios;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Scenario {
+        private int passingScore;
+        private int resumeScoreWeight;
+        private int coverLetterScoreWeight;
+        private int passCount;
+        private double passRate; // 0 ~ 1
+        private int newlyPassingCount; // 현재 불합격 → 합격
+        private int newlyFailingCount; // 현재 합격 → 불합격
+        private List<Long> newlyPassingApplicationIds; // 최대 max-delta-ids 건
+        private List<Long> newlyFailingApplicationIds; // 최대 max-delta-ids 건
+        private int[] distribution; // 총점별 인원 (인덱스 = 점수)
+    }
+}
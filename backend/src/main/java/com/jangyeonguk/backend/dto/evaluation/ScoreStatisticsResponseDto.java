@@ -0,0 +1,81 @@
+package com.jangyeonguk.backend.dto.evaluation;
+
+import java.util.List;
+import java.util.Map;
+
+import com.jangyeonguk.backend.service.ScoreHistogram;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공고별 점수 통계 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScoreStatisticsResponseDto {
+
+    private Long jobPostingId;
+    private ScoreSummary total; // 가중 총점 통계
+    private Integer passingScore; // 합격기준점수
+    private Long passCount; // 합격기준점수 이상 인원
+    private Double passRate; // 합격기준점수 이상 비율 (0 ~ 1)
+    private List<ResumeItemSummary> resumeItems; // 이력서 항목별 점수 통계
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ScoreSummary {
+        private long count;
+        private double mean;
+        private double standardDeviation;
+        private Integer min;
+        private Integer max;
+        private Integer p25;
+        private Integer median;
+        private Integer p75;
+        private Integer p90;
+
+        public static ScoreSummary from(ScoreHistogram histogram) {
+            return ScoreSummary.builder()
+                    .count(histogram.count())
+                    .mean(histogram.mean())
+                    .standardDeviation(Math.sqrt(histogram.variance()))
+                    .min(histogram.min())
+                    .max(histogram.max())
+                    .p25(histogram.quantile(0.25))
+                    .median(histogram.quantile(0.5))
+                    .p75(histogram.quantile(0.75))
+                    .p90(histogram.quantile(0.9))
+                    .build();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResumeItemSummary {
+        private Long resumeItemId;
+        private ScoreSummary score;
+    }
+
+    public static ScoreStatisticsResponseDto from(Long jobPostingId, Integer passingScore,
+                                                  ScoreHistogram total, Map<Long, ScoreHistogram> resumeItems) {
+        Long passCount = passingScore != null ? total.countAtLeast(passingScore) : null;
+        return ScoreStatisticsResponseDto.builder()
+                .jobPostingId(jobPostingId)
+                .total(ScoreSummary.from(total))
+                .passingScore(passingScore)
+                .passCount(passCount)
+                .passRate(passCount != null && total.count() > 0 ? (double) passCount / total.count() : null)
+                .resumeItems(resumeItems.entrySet().stream()
+                        .map(entry -> new ResumeItemSummary(entry.getKey(), ScoreSummary.from(entry.getValue())))
+                        .toList())
+                .build();
+    }
+}
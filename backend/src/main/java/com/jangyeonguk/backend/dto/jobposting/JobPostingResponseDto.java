@@ -1,5 +1,6 @@
 package com.jangyeonguk.backend.dto.jobposting;
 
+import com.jangyeonguk.backend.domain.ApplicationStatus;
 import com.jangyeonguk.backend.domain.EmploymentType;
 import com.jangyeonguk.backend.domain.JobPosting;
 import com.jangyeonguk.backend.domain.PostingStatus;
@@ -14,6 +15,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -48,6 +50,7 @@ public class JobPostingResponseDto {
     private Long companyId; // 회사 ID
     private String companyName; // 회사명
     private Integer applicationCount; // 지원서 수
+    private Map<ApplicationStatus, Long> applicationStatusCounts; // 상태별 지원서 수
 
     // 중첩된 구조
     private List<ResumeItemResponseDto> resumeItems; // 이력서 항목 목록
@@ -56,8 +59,11 @@ public class JobPostingResponseDto {
 
     /**
      * JobPosting 엔티티를 JobPostingResponseDto로 변환
+     * 지원서 수는 applications 컬렉션을 로드하지 않고 집계 쿼리 결과(상태별 지원서 수)로 채운다.
+     *
+     * @param statusCounts 지원서 상태 → 지원서 수 (지원서가 없으면 빈 맵)
      */
-    public static JobPostingResponseDto from(JobPosting jobPosting) {
+    public static JobPostingResponseDto from(JobPosting jobPosting, Map<ApplicationStatus, Long> statusCounts) {
         return JobPostingResponseDto.builder()
                 .id(jobPosting.getId())
                 .title(jobPosting.getTitle())
@@ -81,7 +87,8 @@ public class JobPostingResponseDto {
                 .publicLinkUrl(jobPosting.getPublicLinkUrl()) // 공개 링크 URL 추가
                 .companyId(jobPosting.getCompany().getId())
                 .companyName(jobPosting.getCompany().getName())
-                .applicationCount(jobPosting.getApplications() != null ? jobPosting.getApplications().size() : 0) // 지원서 수 추가
+                .applicationCount((int) statusCounts.values().stream().mapToLong(Long::longValue).sum()) // 지원서 수 추가
+                .applicationStatusCounts(statusCounts)
                 .resumeItems(jobPosting.getResumeItems() != null ?
                         jobPosting.getResumeItems().stream()
                                 .map(ResumeItemResponseDto::from)
@@ -92,47 +99,4 @@ public class JobPostingResponseDto {
                                 .collect(Collectors.toList()) : new ArrayList<>())
                 .build();
     }
-
-    /**
-     * JobPosting 엔티티를 JobPostingResponseDto로 변환 (지원서 데이터 포함)
-     */
-    public static JobPostingResponseDto fromWithApplications(JobPosting jobPosting) {
-        return JobPostingResponseDto.builder()
-                .id(jobPosting.getId())
-                .title(jobPosting.getTitle())
-                .teamDepartment(jobPosting.getTeamDepartment())
-                .jobRole(jobPosting.getJobRole())
-                .employmentType(jobPosting.getEmploymentType())
-                .applicationStartDate(jobPosting.getApplicationStartDate() != null ? jobPosting.getApplicationStartDate().toLocalDate() : null)
-                .applicationEndDate(jobPosting.getApplicationEndDate() != null ? jobPosting.getApplicationEndDate().toLocalDate() : null)
-                .evaluationEndDate(jobPosting.getEvaluationEndDate() != null ? jobPosting.getEvaluationEndDate().toLocalDate() : null)
-                .description(jobPosting.getDescription())
-                .experienceRequirements(jobPosting.getExperienceRequirements())
-                .educationRequirements(jobPosting.getEducationRequirements())
-                .requiredSkills(jobPosting.getRequiredSkills())
-                .totalScore(jobPosting.getTotalScore())
-                .resumeScoreWeight(jobPosting.getResumeScoreWeight())
-                .coverLetterScoreWeight(jobPosting.getCoverLetterScoreWeight())
-                .passingScore(jobPosting.getPassingScore())
-                .aiAutomaticEvaluation(jobPosting.getAiAutomaticEvaluation())
-                .manualReview(jobPosting.getManualReview())
-                .postingStatus(jobPosting.getPostingStatus())
-                .publicLinkUrl(jobPosting.getPublicLinkUrl())
-                .companyId(jobPosting.getCompany().getId())
-                .companyName(jobPosting.getCompany().getName())
-                .applicationCount(jobPosting.getApplications() != null ? jobPosting.getApplications().size() : 0)
-                .resumeItems(jobPosting.getResumeItems() != null ?
-                        jobPosting.getResumeItems().stream()
-                                .map(ResumeItemResponseDto::from)
-                                .collect(Collectors.toList()) : new ArrayList<>())
-                .coverLetterQuestions(jobPosting.getCoverLetterQuestions() != null ?
-                        jobPosting.getCoverLetterQuestions().stream()
-                                .map(CoverLetterQuestionResponseDto::from)
-                                .collect(Collectors.toList()) : new ArrayList<>())
-                .applications(jobPosting.getApplications() != null ?
-                        jobPosting.getApplications().stream()
-                                .map(ApplicationResponseDto::from)
-                                .collect(Collectors.toList()) : new ArrayList<>())
-                .build();
-    }
-}
\ No newline at end of file
+}
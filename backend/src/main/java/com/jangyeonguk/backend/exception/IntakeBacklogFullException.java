@@ -0,0 +1,11 @@
+package com.jangyeonguk.backend.exception;
+
+/**
+ * 평가 결과 수신 저널의 반영 대기 건수가 한도에 도달하여 접수할 수 없음 (503 응답, 발신 측이 나중에 다시 전송)
+ */
+public class IntakeBacklogFullException extends RuntimeException {
+
+    public IntakeBacklogFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,121 @@
+package com.jangyeonguk.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jangyeonguk.backend.domain.AiDispatchOutbox;
+import com.jangyeonguk.backend.domain.DispatchStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+/**
+ * AI 평가 전송 아웃박스 Repository
+ */
+@Repository
+public interface AiDispatchOutboxRepository extends JpaRepository<AiDispatchOutbox, Long> {
+
+    Optional<AiDispatchOutbox> findByApplicationId(Long applicationId);
+
+    List<AiDispatchOutbox> findByApplicationIdIn(Collection<Long> applicationIds);
+
+    /**
+     * 공고별 전송 가능한 대기 행 수, 가장 오래 기다린 시각, 평가 마감일 (마이크로 배치 flush 및 우선순위 판단용)
+     */
+    @Query("SELECT o.jobPostingId AS jobPostingId, COUNT(o) AS dueCount, MIN(o.nextAttemptAt) AS readySince, " +
+           "MIN(o.evaluationDeadline) AS evaluationDeadline " +
+           "FROM AiDispatchOutbox o " +
+           "WHERE o.status = :status AND o.nextAttemptAt <= :now " +
+           "GROUP BY o.jobPostingId")
+    List<DueGroup> findDueGroups(@Param("status") DispatchStatus status, @Param("now") LocalDateTime now);
+
+    /**
+     * 특정 공고의 전송 시각이 도래한 대기 행을 잠금과 함께 조회
+     * lock.timeout = -2 는 SKIP LOCKED 로, 다른 인스턴스가 선점한 행은 건너뛴다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM AiDispatchOutbox o " +
+           "WHERE o.status = :status AND o.jobPostingId = :jobPostingId AND o.nextAttemptAt <= :now " +
+           "ORDER BY o.id")
+    List<AiDispatchOutbox> findDueForUpdateByJobPostingId(@Param("status") DispatchStatus status,
+                                                          @Param("jobPostingId") Long jobPostingId,
+                                                          @Param("now") LocalDateTime now,
+                                                          Pageable pageable);
+
+    /**
+     * 전송 도중 프로세스가 종료되어 남은 선점 행을 대기 상태로 복구
+     */
+    @Modifying
+    @Query("UPDATE AiDispatchOutbox o SET o.status = :pending, o.claimedAt = null " +
+           "WHERE o.status = :inFlight AND o.claimedAt < :staleBefore")
+    int releaseStaleClaims(@Param("pending") DispatchStatus pending,
+                           @Param("inFlight") DispatchStatus inFlight,
+                           @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 공고별 평가 대기열 현황 (전송 대기/전송중 행 수, 가장 오래된 대기 시작 시각)
+     */
+    @Query("SELECT o.jobPostingId AS jobPostingId, " +
+           "SUM(CASE WHEN o.status = :pending THEN 1 ELSE 0 END) AS pendingCount, " +
+           "SUM(CASE WHEN o.status = :inFlight THEN 1 ELSE 0 END) AS inFlightCount, " +
+           "MIN(o.createdAt) AS oldestCreatedAt, MIN(o.evaluationDeadline) AS evaluationDeadline " +
+           "FROM AiDispatchOutbox o " +
+           "WHERE o.status IN (:pending, :inFlight) " +
+           "GROUP BY o.jobPostingId")
+    List<QueueDepth> findQueueDepths(@Param("pending") DispatchStatus pending,
+                                     @Param("inFlight") DispatchStatus inFlight);
+
+    /**
+     * 공고의 평가 마감일 변경을 전송 대기 행에 반영
+     */
+    @Modifying
+    @Query("UPDATE AiDispatchOutbox o SET o.evaluationDeadline = :deadline " +
+           "WHERE o.jobPostingId = :jobPostingId AND o.status IN :statuses")
+    int updateEvaluationDeadline(@Param("jobPostingId") Long jobPostingId,
+                                 @Param("deadline") LocalDateTime deadline,
+                                 @Param("statuses") Collection<DispatchStatus> statuses);
+
+    /**
+     * AI 자동평가가 꺼진 공고의 대기 행을 전송하지 않고 종료
+     */
+    @Modifying
+    @Query("UPDATE AiDispatchOutbox o SET o.status = :failed, o.lastError = :reason, o.claimedAt = null " +
+           "WHERE o.jobPostingId = :jobPostingId AND o.status = :pending")
+    int cancelPending(@Param("jobPostingId") Long jobPostingId,
+                      @Param("pending") DispatchStatus pending,
+                      @Param("failed") DispatchStatus failed,
+                      @Param("reason") String reason);
+
+    /**
+     * 공고별 전송 대기 집계 프로젝션
+     */
+    interface DueGroup {
+        Long getJobPostingId();
+        Long getDueCount();
+        LocalDateTime getReadySince();
+        LocalDateTime getEvaluationDeadline();
+    }
+
+    /**
+     * 공고별 평가 대기열 현황 프로젝션
+     */
+    interface QueueDepth {
+        Long getJobPostingId();
+        Long getPendingCount();
+        Long getInFlightCount();
+        LocalDateTime getOldestCreatedAt();
+        LocalDateTime getEvaluationDeadline();
+    }
+}
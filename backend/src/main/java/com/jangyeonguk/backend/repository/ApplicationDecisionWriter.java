@@ -0,0 +1,67 @@
+package com.jangyeonguk.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.jangyeonguk.backend.domain.ApplicationStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지원서 평가 결정 일괄 반영 (JDBC 집합 UPDATE)
+ * 엔티티를 읽지 않고 ID 묶음 단위 UPDATE 로 처리한다. 호출 측 트랜잭션에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicationDecisionWriter {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 총점 구간에 드는 평가 완료 지원서 ID (idx_evaluation_results_posting_total_score 사용)
+     */
+    public List<Long> findEvaluatedIdsByScore(Long jobPostingId, Integer minScore, Integer maxScore) {
+        MapSqlParameterSource params = new MapSqlParameterSource("jobPostingId", jobPostingId);
+        StringBuilder sql = new StringBuilder("SELECT application_id FROM evaluation_results WHERE job_posting_id = :jobPostingId");
+        if (minScore != null) {
+            sql.append(" AND total_score >= :minScore");
+            params.addValue("minScore", minScore);
+        }
+        if (maxScore != null) {
+            sql.append(" AND total_score <= :maxScore");
+            params.addValue("maxScore", maxScore);
+        }
+        return namedParameterJdbcTemplate.queryForList(sql.toString(), params, Long.class);
+    }
+
+    /**
+     * 주어진 ID 중 해당 공고의 평가 완료 지원서 ID
+     */
+    public List<Long> findEvaluatedIdsIn(Long jobPostingId, Collection<Long> applicationIds) {
+        return namedParameterJdbcTemplate.queryForList(
+                "SELECT application_id FROM evaluation_results WHERE job_posting_id = :jobPostingId AND application_id IN (:ids)",
+                Map.of("jobPostingId", jobPostingId, "ids", applicationIds), Long.class);
+    }
+
+    /**
+     * 상태 변경 (이미 같은 상태인 행은 쓰지 않음)
+     *
+     * @return 상태가 바뀐 행 수
+     */
+    public int updateStatus(Collection<Long> applicationIds, ApplicationStatus status) {
+        return namedParameterJdbcTemplate.update(
+                "UPDATE applications SET status = :status WHERE id IN (:ids) AND status <> :status",
+                Map.of("status", status.name(), "ids", applicationIds));
+    }
+
+    public int updateHrComment(Collection<Long> applicationIds, String comment) {
+        return namedParameterJdbcTemplate.update(
+                "UPDATE evaluation_results SET hr_comment = :comment WHERE application_id IN (:ids)",
+                Map.of("comment", comment, "ids", applicationIds));
+    }
+}
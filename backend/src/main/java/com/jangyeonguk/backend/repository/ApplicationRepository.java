@@ -3,13 +3,22 @@ package com.jangyeonguk.backend.repository;
 import com.jangyeonguk.backend.domain.Applicant;
 import com.jangyeonguk.backend.domain.Application;
 import com.jangyeonguk.backend.domain.ApplicationStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.QueryHint;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 지원서 Repository
@@ -23,6 +32,130 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     // 추가된 메서드
     Optional<Application> findByApplicantEmailAndJobPostingId(String applicantEmail, Long jobPostingId);
     
+    /**
+     * created_at 이 없는 기존 지원서에 생성일시를 채움 (NULL 은 키셋 조회에 걸리지 않아 복구 대상에서 빠지므로)
+     * (status, created_at) 인덱스로 해당 상태의 NULL 행만 찾는다.
+     */
+    @Modifying
+    @Query("UPDATE Application a SET a.createdAt = :createdAt WHERE a.status = :status AND a.createdAt IS NULL")
+    int backfillMissingCreatedAt(@Param("status") ApplicationStatus status, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 평가 결과 없이 오래 머문 지원서를 (created_at, id) 키셋으로 조회 (idx_applications_status_created_at 사용)
+     * 이전 페이지의 마지막 (createdAt, id) 이후부터 이어서 조회한다.
+     */
+    @Query("SELECT a.id AS applicationId, a.createdAt AS createdAt, jp.id AS jobPostingId, " +
+           "jp.evaluationEndDate AS evaluationDeadline, jp.aiAutomaticEvaluation AS aiAutomaticEvaluation " +
+           "FROM Application a JOIN a.jobPosting jp " +
+           "WHERE a.status = :status AND a.createdAt < :createdBefore " +
+           "AND (a.createdAt > :afterCreatedAt OR (a.createdAt = :afterCreatedAt AND a.id > :afterId)) " +
+           "AND NOT EXISTS (SELECT 1 FROM EvaluationResult er WHERE er.application.id = a.id) " +
+           "ORDER BY a.createdAt, a.id")
+    List<StuckApplication> findStuckAfter(@Param("status") ApplicationStatus status,
+                                          @Param("createdBefore") LocalDateTime createdBefore,
+                                          @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+
+    /**
+     * 평가 결과가 없는 지원서 프로젝션 (재전송 판단용)
+     */
+    interface StuckApplication {
+        Long getApplicationId();
+        LocalDateTime getCreatedAt();
+        Long getJobPostingId();
+        LocalDateTime getEvaluationDeadline();
+        Boolean getAiAutomaticEvaluation();
+    }
+
+    /**
+     * 전체 지원서를 (job_posting_id, id) 키셋으로 조회 (지원자 함께 로드)
+     * 이전 페이지의 마지막 (jobPostingId, id) 이후부터 이어서 조회한다.
+     */
+    @Query("SELECT a FROM Application a JOIN FETCH a.applicant " +
+           "WHERE a.jobPosting.id > :afterJobPostingId " +
+           "OR (a.jobPosting.id = :afterJobPostingId AND a.id > :afterId) " +
+           "ORDER BY a.jobPosting.id, a.id")
+    List<Application> findPageAfter(@Param("afterJobPostingId") Long afterJobPostingId,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    /**
+     * 공고별 지원서를 id 키셋으로 조회 (지원자 함께 로드)
+     */
+    @Query("SELECT a FROM Application a JOIN FETCH a.applicant " +
+           "WHERE a.jobPosting.id = :jobPostingId AND a.id > :afterId " +
+           "ORDER BY a.id")
+    List<Application> findPageByJobPostingIdAfter(@Param("jobPostingId") Long jobPostingId,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable pageable);
+
+    /**
+     * 공고별 지원서 요약 목록 (이름, 이메일, 상태, 총점, AI 추천결과만 조회, idx_applications_posting_status 사용)
+     * 필터는 null 이면 적용하지 않는다. 상태 필터는 anyStatus=false 일 때만 적용한다. 정렬은 pageable 로 지정한다.
+     */
+    @Query(value = "SELECT a.id AS applicationId, ap.name AS applicantName, ap.email AS applicantEmail, a.status AS status, " +
+                   "er.totalScore AS totalScore, er.aiRecommendation AS aiRecommendation " +
+                   "FROM Application a JOIN a.applicant ap LEFT JOIN EvaluationResult er ON er.application = a " +
+                   "WHERE a.jobPosting.id = :jobPostingId " +
+                   "AND (:anyStatus = true OR a.status IN :statuses) " +
+                   "AND (:aiRecommendation IS NULL OR er.aiRecommendation = :aiRecommendation) " +
+                   "AND (:minScore IS NULL OR er.totalScore >= :minScore) " +
+                   "AND (:maxScore IS NULL OR er.totalScore <= :maxScore)",
+           countQuery = "SELECT COUNT(a) FROM Application a LEFT JOIN EvaluationResult er ON er.application = a " +
+                        "WHERE a.jobPosting.id = :jobPostingId " +
+                        "AND (:anyStatus = true OR a.status IN :statuses) " +
+                        "AND (:aiRecommendation IS NULL OR er.aiRecommendation = :aiRecommendation) " +
+                        "AND (:minScore IS NULL OR er.totalScore >= :minScore) " +
+                        "AND (:maxScore IS NULL OR er.totalScore <= :maxScore)")
+    Page<ApplicationSummary> findSummariesByJobPostingId(@Param("jobPostingId") Long jobPostingId,
+                                                         @Param("anyStatus") boolean anyStatus,
+                                                         @Param("statuses") Collection<ApplicationStatus> statuses,
+                                                         @Param("aiRecommendation") String aiRecommendation,
+                                                         @Param("minScore") Integer minScore,
+                                                         @Param("maxScore") Integer maxScore,
+                                                         Pageable pageable);
+
+    /**
+     * 지원서 요약 프로젝션 (HR 목록 화면용)
+     */
+    interface ApplicationSummary {
+        Long getApplicationId();
+        String getApplicantName();
+        String getApplicantEmail();
+        ApplicationStatus getStatus();
+        Integer getTotalScore();
+        String getAiRecommendation();
+    }
+
+    /**
+     * 공고별 지원서를 지원자와 함께 순방향 커서로 조회 (스트리밍 응답용)
+     * 호출 측 트랜잭션 안에서 소비하고 닫아야 한다. 커서 중에 다른 쿼리를 실행하려면 JDBC URL 에 useCursorFetch=true 가 필요하다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM Application a JOIN FETCH a.applicant " +
+           "WHERE a.jobPosting.id = :jobPostingId " +
+           "ORDER BY a.id")
+    Stream<Application> streamByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
+    /**
+     * 여러 공고의 상태별 지원서 수를 한 번에 집계 (idx_applications_posting_status 만 읽음)
+     */
+    @Query("SELECT a.jobPosting.id AS jobPostingId, a.status AS status, COUNT(a) AS applicationCount " +
+           "FROM Application a " +
+           "WHERE a.jobPosting.id IN :jobPostingIds " +
+           "GROUP BY a.jobPosting.id, a.status")
+    List<StatusCount> countByJobPostingIdInGroupByStatus(@Param("jobPostingIds") Collection<Long> jobPostingIds);
+
+    /**
+     * 공고/상태별 지원서 수 프로젝션
+     */
+    interface StatusCount {
+        Long getJobPostingId();
+        ApplicationStatus getStatus();
+        Long getApplicationCount();
+    }
+
     // 공고별 지원서 수 조회
     long countByJobPostingId(Long jobPostingId);
     
@@ -56,4 +189,12 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
            "LEFT JOIN FETCH a.applicant " +
            "WHERE a.id = :id")
     Optional<Application> findByIdWithApplicant(@Param("id") Long id);
+
+    /**
+     * 여러 지원서를 지원자 정보와 함께 한 번에 조회 (FETCH JOIN)
+     */
+    @Query("SELECT a FROM Application a " +
+           "JOIN FETCH a.applicant " +
+           "WHERE a.id IN :ids")
+    List<Application> findAllByIdWithApplicant(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
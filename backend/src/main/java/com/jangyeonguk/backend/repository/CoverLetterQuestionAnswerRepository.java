@@ -2,8 +2,11 @@ package com.jangyeonguk.backend.repository;
 
 import com.jangyeonguk.backend.domain.CoverLetterQuestionAnswer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,4 +16,13 @@ import java.util.List;
 public interface CoverLetterQuestionAnswerRepository extends JpaRepository<CoverLetterQuestionAnswer, Long> {
     List<CoverLetterQuestionAnswer> findByApplicationId(Long applicationId);
     List<CoverLetterQuestionAnswer> findByApplicationIdAndCoverLetterQuestionId(Long applicationId, Long coverLetterQuestionId);
+
+    /**
+     * 여러 지원서의 답변 목록을 자기소개서 질문과 함께 한 번에 조회 (FETCH JOIN)
+     */
+    @Query("SELECT clqa FROM CoverLetterQuestionAnswer clqa " +
+           "JOIN FETCH clqa.coverLetterQuestion " +
+           "WHERE clqa.application.id IN :applicationIds " +
+           "ORDER BY clqa.id")
+    List<CoverLetterQuestionAnswer> findByApplicationIdInWithCoverLetterQuestion(@Param("applicationIds") Collection<Long> applicationIds);
 }
\ No newline at end of file
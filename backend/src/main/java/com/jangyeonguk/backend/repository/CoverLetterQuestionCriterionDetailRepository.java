@@ -2,6 +2,8 @@ package com.jangyeonguk.backend.repository;
 
 import com.jangyeonguk.backend.domain.CoverLetterQuestionCriterionDetail;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +18,14 @@ public interface CoverLetterQuestionCriterionDetailRepository extends JpaReposit
      * 자기소개서 질문 평가기준 ID로 상세 목록 조회
      */
     List<CoverLetterQuestionCriterionDetail> findByCoverLetterQuestionCriterionId(Long coverLetterQuestionCriterionId);
+
+    /**
+     * 채용공고의 자기소개서 평가기준 상세 전체를 기준/질문과 함께 조회 (FETCH JOIN, 루브릭 스냅샷 생성용)
+     */
+    @Query("SELECT d FROM CoverLetterQuestionCriterionDetail d " +
+           "JOIN FETCH d.coverLetterQuestionCriterion c " +
+           "JOIN FETCH c.coverLetterQuestion q " +
+           "WHERE q.jobPosting.id = :jobPostingId " +
+           "ORDER BY q.id, c.id, d.id")
+    List<CoverLetterQuestionCriterionDetail> findByJobPostingIdWithCriterion(@Param("jobPostingId") Long jobPostingId);
 }
\ No newline at end of file
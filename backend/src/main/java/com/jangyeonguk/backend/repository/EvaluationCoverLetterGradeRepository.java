@@ -0,0 +1,35 @@
+package com.jangyeonguk.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jangyeonguk.backend.domain.EvaluationCoverLetterGrade;
+import com.jangyeonguk.backend.domain.Grade;
+
+/**
+ * 자기소개서 평가 기준별 AI 등급 Repository
+ */
+@Repository
+public interface EvaluationCoverLetterGradeRepository extends JpaRepository<EvaluationCoverLetterGrade, Long> {
+
+    /**
+     * 공고의 문항/평가 기준별 등급 분포 (job_posting_id, cover_letter_question_id, criterion_name, grade 인덱스만으로 집계)
+     */
+    @Query("SELECT g.coverLetterQuestionId AS coverLetterQuestionId, g.criterionName AS criterionName, " +
+           "g.grade AS grade, COUNT(g) AS gradeCount " +
+           "FROM EvaluationCoverLetterGrade g WHERE g.jobPostingId = :jobPostingId " +
+           "GROUP BY g.coverLetterQuestionId, g.criterionName, g.grade " +
+           "ORDER BY g.coverLetterQuestionId, g.criterionName")
+    List<GradeCount> findGradeCountsByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
+    interface GradeCount {
+        Long getCoverLetterQuestionId();
+        String getCriterionName();
+        Grade getGrade();
+        Long getGradeCount();
+    }
+}
@@ -1,11 +1,16 @@
 package com.jangyeonguk.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.jangyeonguk.backend.domain.ApplicationStatus;
 import com.jangyeonguk.backend.domain.EvaluationResult;
 
 /**
@@ -16,6 +21,53 @@ public interface EvaluationResultRepository extends JpaRepository<EvaluationResu
 
     Optional<EvaluationResult> findByApplicationId(Long applicationId);
 
+    /**
+     * 여러 지원서의 평가 결과를 한 번에 조회 (uk_evaluation_results_application_id 사용)
+     */
+    @Query("SELECT er FROM EvaluationResult er WHERE er.application.id IN :applicationIds")
+    List<EvaluationResult> findByApplicationIdIn(@Param("applicationIds") Collection<Long> applicationIds);
 
     List<EvaluationResult> findByJobPostingId(Long jobPostingId);
+
+    /**
+     * 공고 내 총점 순위 페이지 (job_posting_id, total_score 인덱스 역순 스캔, 동점은 나중 결과가 앞)
+     */
+    @Query("SELECT e.id AS evaluationResultId, a.id AS applicationId, ap.name AS applicantName, a.status AS status, " +
+           "e.totalScore AS totalScore, e.resumeRawScore AS resumeRawScore, e.coverLetterRawScore AS coverLetterRawScore " +
+           "FROM EvaluationResult e JOIN e.application a JOIN a.applicant ap " +
+           "WHERE e.jobPosting.id = :jobPostingId " +
+           "ORDER BY e.totalScore DESC, e.id DESC")
+    List<RankedResult> findRankingByJobPostingId(@Param("jobPostingId") Long jobPostingId, Pageable pageable);
+
+    long countByJobPostingId(Long jobPostingId);
+
+    /**
+     * 공고별 평가 결과를 (total_score DESC, id DESC) 키셋으로 조회 (idx_evaluation_results_posting_total_score 사용)
+     * 이전 페이지의 마지막 (totalScore, evaluationResultId) 이후부터 이어서 조회한다.
+     */
+    @Query("SELECT er.id AS evaluationResultId, er.application.id AS applicationId, er.totalScore AS totalScore " +
+           "FROM EvaluationResult er " +
+           "WHERE er.jobPosting.id = :jobPostingId " +
+           "AND (er.totalScore < :afterScore OR (er.totalScore = :afterScore AND er.id < :afterId)) " +
+           "ORDER BY er.totalScore DESC, er.id DESC")
+    List<ScoreKey> findScoreKeysAfter(@Param("jobPostingId") Long jobPostingId,
+                                      @Param("afterScore") Integer afterScore,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    interface ScoreKey {
+        Long getEvaluationResultId();
+        Long getApplicationId();
+        Integer getTotalScore();
+    }
+
+    interface RankedResult {
+        Long getEvaluationResultId();
+        Long getApplicationId();
+        String getApplicantName();
+        ApplicationStatus getStatus();
+        Integer getTotalScore();
+        Double getResumeRawScore();
+        Double getCoverLetterRawScore();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,326 @@
+package com.jangyeonguk.backend.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jangyeonguk.backend.domain.ApplicationStatus;
+import com.jangyeonguk.backend.domain.Grade;
+import com.jangyeonguk.backend.domain.ScoringRubric;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultRequestDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 평가 결과 일괄 저장 (JDBC 배치)
+ * 건수와 무관하게 지원서 조회 1번, 기존 해시 조회 1번, upsert 배치 1번, 상태 변경 1번으로 처리한다.
+ * 항목별 점수/기준별 등급 정규화 테이블은 지원서 단위로 삭제 후 배치 INSERT 한다.
+ * 총점은 공고 배점 비중을 반영한 가중 총점으로 수신 시 한 번 계산해 둔다 (ScoringRubric).
+ * 이미 같은 내용이 저장된 결과는 쓰지 않는다. 호출 측 트랜잭션에 참여한다.
+ * 대상 지원서 행을 FOR UPDATE로 잠근 뒤 기존 해시를 읽으므로, 같은 지원서에 대한 동시 저장은 순서대로 비교/기록된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EvaluationResultWriter {
+
+    // uk_evaluation_results_application_id 기준 단일 문장 upsert (동시/재전송 콜백도 행이 하나로 유지됨)
+    // 해시가 같으면 모든 컬럼을 자기 자신으로 대입하여 실제 쓰기가 일어나지 않는다. payload_hash 는 비교 후 마지막에 갱신해야 한다.
+    // VALUES(col) 은 MySQL 8.0.20 부터 deprecated 이므로 행 별칭(new)을 사용한다.
+    private static final String UPSERT_SQL =
+            "INSERT INTO evaluation_results " +
+            "(application_id, job_posting_id, total_score, resume_raw_score, cover_letter_raw_score, " +
+            "resume_scores, cover_letter_scores, overall_evaluation, ai_recommendation, payload_hash, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) AS new " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_score = IF(payload_hash <=> new.payload_hash, total_score, new.total_score), " +
+            "resume_raw_score = IF(payload_hash <=> new.payload_hash, resume_raw_score, new.resume_raw_score), " +
+            "cover_letter_raw_score = IF(payload_hash <=> new.payload_hash, cover_letter_raw_score, new.cover_letter_raw_score), " +
+            "resume_scores = IF(payload_hash <=> new.payload_hash, resume_scores, new.resume_scores), " +
+            "cover_letter_scores = IF(payload_hash <=> new.payload_hash, cover_letter_scores, new.cover_letter_scores), " +
+            "overall_evaluation = IF(payload_hash <=> new.payload_hash, overall_evaluation, new.overall_evaluation), " +
+            "ai_recommendation = IF(payload_hash <=> new.payload_hash, ai_recommendation, new.ai_recommendation), " +
+            "payload_hash = new.payload_hash";
+
+    private static final String INSERT_RESUME_ITEM_SCORE_SQL =
+            "INSERT INTO evaluation_resume_item_scores (application_id, job_posting_id, resume_item_id, score) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_COVER_LETTER_GRADE_SQL =
+            "INSERT INTO evaluation_cover_letter_grades " +
+            "(application_id, job_posting_id, cover_letter_question_id, criterion_name, grade) VALUES (?, ?, ?, ?, ?)";
+
+    /**
+     * 저장 결과 (실패한 지원서 ID와 사유, 실제로 기록된 결과의 총점)
+     */
+    public record WriteResult(Map<Long, String> failures, List<WrittenScore> written) {
+    }
+
+    /**
+     * 기록된 결과의 총점/원점수/이력서 항목 점수 (소비 측은 지원서 ID 기준으로 교체하므로 이전 값은 싣지 않음)
+     */
+    public record WrittenScore(Long applicationId, Long jobPostingId, int totalScore,
+                               double resumeRawScore, double coverLetterRawScore, Map<Long, Integer> resumeItemScores) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 평가 결과 upsert 및 지원서 상태를 '평가중'으로 변경
+     * 같은 지원서의 결과가 여러 건이면 마지막 결과만 반영하고, 저장된 내용과 같은 결과는 상태도 건드리지 않는다.
+     *
+     * @return 저장하지 못한 지원서 ID와 사유, 기록된 결과의 총점 (같은 결과 재전송은 둘 다에 포함되지 않음)
+     */
+    public WriteResult write(Collection<EvaluationResultRequestDto> results) {
+        Map<Long, String> failures = new LinkedHashMap<>();
+        Map<Long, EvaluationResultRequestDto> byApplicationId = new LinkedHashMap<>();
+        for (EvaluationResultRequestDto result : results) {
+            if (result.getApplicationId() != null) {
+                byApplicationId.put(result.getApplicationId(), result);
+            }
+        }
+        if (byApplicationId.isEmpty()) {
+            return new WriteResult(failures, List.of());
+        }
+
+        Map<String, Object> params = Map.of("ids", byApplicationId.keySet());
+        Map<Long, Long> jobPostingIds = new HashMap<>();
+        // 지원서 행을 잠가 같은 지원서에 대한 동시 저장을 직렬화한다 (기존 해시 비교가 동시 저장에 가려지지 않도록).
+        // 결과 행은 아직 없을 수 있어 evaluation_results 를 잠그면 갭 락만 걸리고 동시 INSERT 끼리 교착되므로 부모 행을 잠근다.
+        namedParameterJdbcTemplate.query("SELECT id, job_posting_id FROM applications WHERE id IN (:ids) ORDER BY id FOR UPDATE", params,
+                rs -> {
+                    jobPostingIds.put(rs.getLong("id"), rs.getLong("job_posting_id"));
+                });
+        Map<Long, String> storedHashes = new HashMap<>();
+        namedParameterJdbcTemplate.query("SELECT application_id, payload_hash FROM evaluation_results WHERE application_id IN (:ids)", params,
+                rs -> {
+                    storedHashes.put(rs.getLong("application_id"), rs.getString("payload_hash"));
+                });
+
+        Map<Long, ScoringRubric> rubrics = loadScoringRubrics(new HashSet<>(jobPostingIds.values()));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> upserts = new ArrayList<>();
+        List<Object[]> resumeItemScores = new ArrayList<>();
+        List<Object[]> coverLetterGrades = new ArrayList<>();
+        List<Long> written = new ArrayList<>();
+        Map<Long, Integer> writtenTotals = new HashMap<>();
+        Map<Long, double[]> writtenRawScores = new HashMap<>();
+        Map<Long, Map<Long, Integer>> writtenItemScores = new HashMap<>();
+        byApplicationId.forEach((applicationId, result) -> {
+            Long jobPostingId = jobPostingIds.get(applicationId);
+            if (jobPostingId == null) {
+                failures.put(applicationId, "지원서를 찾을 수 없습니다.");
+                return;
+            }
+
+            String resumeScores;
+            String coverLetterScores;
+            String overallEvaluation;
+            try {
+                resumeScores = objectMapper.writeValueAsString(result.getResumeEvaluations());
+                coverLetterScores = objectMapper.writeValueAsString(result.getCoverLetterQuestionEvaluations());
+                overallEvaluation = objectMapper.writeValueAsString(result.getOverallAnalysis());
+            } catch (JsonProcessingException e) {
+                failures.put(applicationId, "평가 결과 직렬화에 실패했습니다: " + e.getOriginalMessage());
+                return;
+            }
+
+            String payloadHash = sha256(resumeScores + '\n' + coverLetterScores + '\n' + overallEvaluation);
+            if (payloadHash.equals(storedHashes.get(applicationId))) {
+                return; // 같은 결과 재전송
+            }
+            ScoringRubric rubric = rubrics.get(jobPostingId);
+            // 정규화 행/통계도 총점과 같은 기준을 쓰도록 공고에 없는 항목/기준은 버리고 항목 점수는 최대 점수로 자른다
+            Map<Long, Integer> itemScores = rubric.cappedResumeItemScores(itemScores(result));
+            Map<Long, Map<String, List<Grade>>> grades = rubric.knownGrades(grades(result));
+            double resumeRawScore = rubric.resumeRawScore(itemScores);
+            double coverLetterRawScore = rubric.coverLetterRawScore(grades);
+            int totalScore = rubric.weightedTotal(resumeRawScore, coverLetterRawScore);
+            upserts.add(new Object[]{applicationId, jobPostingId, totalScore, resumeRawScore, coverLetterRawScore,
+                    resumeScores, coverLetterScores, overallEvaluation, aiRecommendation(result), payloadHash, now});
+            written.add(applicationId);
+            writtenTotals.put(applicationId, totalScore);
+            writtenRawScores.put(applicationId, new double[]{resumeRawScore, coverLetterRawScore});
+            writtenItemScores.put(applicationId, itemScores);
+            addNormalizedRows(applicationId, jobPostingId, itemScores, grades, resumeItemScores, coverLetterGrades);
+        });
+
+        List<WrittenScore> writtenScores = written.stream()
+                .map(applicationId -> new WrittenScore(applicationId, jobPostingIds.get(applicationId), writtenTotals.get(applicationId),
+                        writtenRawScores.get(applicationId)[0], writtenRawScores.get(applicationId)[1], writtenItemScores.get(applicationId)))
+                .toList();
+
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+        }
+        if (!written.isEmpty()) {
+            Map<String, Object> writtenIds = Map.of("ids", written);
+            namedParameterJdbcTemplate.update("DELETE FROM evaluation_resume_item_scores WHERE application_id IN (:ids)", writtenIds);
+            namedParameterJdbcTemplate.update("DELETE FROM evaluation_cover_letter_grades WHERE application_id IN (:ids)", writtenIds);
+        }
+        if (!resumeItemScores.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_RESUME_ITEM_SCORE_SQL, resumeItemScores);
+        }
+        if (!coverLetterGrades.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_COVER_LETTER_GRADE_SQL, coverLetterGrades);
+        }
+        if (!written.isEmpty()) {
+            namedParameterJdbcTemplate.update("UPDATE applications SET status = :status WHERE id IN (:ids)",
+                    Map.of("status", ApplicationStatus.IN_PROGRESS.name(), "ids", written));
+        }
+        return new WriteResult(failures, writtenScores);
+    }
+
+    /**
+     * 목록 조회용 AI 추천결과 (컬럼 길이를 넘는 값은 잘라냄)
+     */
+    private String aiRecommendation(EvaluationResultRequestDto result) {
+        if (result.getOverallAnalysis() == null || result.getOverallAnalysis().getAiRecommendation() == null) {
+            return null;
+        }
+        String recommendation = result.getOverallAnalysis().getAiRecommendation().trim();
+        return recommendation.length() > 50 ? recommendation.substring(0, 50) : recommendation;
+    }
+
+    /**
+     * 이력서 항목 ID → 점수 (ID나 점수가 빠진 평가는 제외, 같은 이력서 항목이 여러 번 오면 마지막 점수)
+     */
+    private Map<Long, Integer> itemScores(EvaluationResultRequestDto result) {
+        Map<Long, Integer> itemScores = new LinkedHashMap<>();
+        if (result.getResumeEvaluations() != null) {
+            for (EvaluationResultRequestDto.ResumeEvaluationDto evaluation : result.getResumeEvaluations()) {
+                if (evaluation.getResumeItemId() != null && evaluation.getScore() != null) {
+                    itemScores.put(evaluation.getResumeItemId(), evaluation.getScore());
+                }
+            }
+        }
+        return itemScores;
+    }
+
+    /**
+     * 자기소개서 문항 ID → 평가기준 이름 → 받은 등급 목록 (ID나 기준 이름, 등급이 빠진 평가는 제외)
+     */
+    private Map<Long, Map<String, List<Grade>>> grades(EvaluationResultRequestDto result) {
+        Map<Long, Map<String, List<Grade>>> grades = new LinkedHashMap<>();
+        if (result.getCoverLetterQuestionEvaluations() == null) {
+            return grades;
+        }
+        for (EvaluationResultRequestDto.CoverLetterQuestionEvaluationDto question : result.getCoverLetterQuestionEvaluations()) {
+            if (question.getCoverLetterQuestionId() == null || question.getAnswerEvaluations() == null) {
+                continue;
+            }
+            for (EvaluationResultRequestDto.CoverLetterAnswerEvaluationDto answer : question.getAnswerEvaluations()) {
+                Grade grade = Grade.parse(answer.getGrade());
+                if (answer.getEvaluationCriteriaName() != null && grade != null) {
+                    grades.computeIfAbsent(question.getCoverLetterQuestionId(), id -> new LinkedHashMap<>())
+                            .computeIfAbsent(answer.getEvaluationCriteriaName(), name -> new ArrayList<>())
+                            .add(grade);
+                }
+            }
+        }
+        return grades;
+    }
+
+    /**
+     * 항목별 점수 / 기준별 등급 행 생성 (채점 기준으로 걸러낸 값)
+     */
+    private void addNormalizedRows(Long applicationId, Long jobPostingId, Map<Long, Integer> itemScores,
+                                   Map<Long, Map<String, List<Grade>>> grades,
+                                   List<Object[]> resumeItemScores, List<Object[]> coverLetterGrades) {
+        itemScores.forEach((resumeItemId, score) ->
+                resumeItemScores.add(new Object[]{applicationId, jobPostingId, resumeItemId, score}));
+        grades.forEach((questionId, criteria) -> criteria.forEach((criterionName, criterionGrades) ->
+                criterionGrades.forEach(grade ->
+                        coverLetterGrades.add(new Object[]{applicationId, jobPostingId, questionId, criterionName, grade.name()}))));
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 배점 비중 변경 시 공고의 저장된 원점수로 총점 재계산 (UPDATE 1번)
+     * Math.round 와 같게 반올림하기 위해 FLOOR(x + 0.5) 를 사용한다.
+     * 원점수 컬럼이 생기기 전에 저장된 결과(원점수 NULL)는 다시 계산할 수 없으므로 기존 총점을 유지한다.
+     */
+    public int rescore(Long jobPostingId) {
+        ScoringRubric rubric = loadScoringRubrics(Set.of(jobPostingId)).get(jobPostingId);
+        return namedParameterJdbcTemplate.update(
+                "UPDATE evaluation_results SET total_score = FLOOR(resume_raw_score * :resumeFactor " +
+                "+ cover_letter_raw_score * :coverLetterFactor + 0.5) " +
+                "WHERE job_posting_id = :jobPostingId AND resume_raw_score IS NOT NULL AND cover_letter_raw_score IS NOT NULL",
+                Map.of("resumeFactor", rubric.resumeFactor(),
+                        "coverLetterFactor", rubric.coverLetterFactor(),
+                        "jobPostingId", jobPostingId));
+    }
+
+    /**
+     * 공고별 채점 기준 조회 (공고 수와 무관하게 쿼리 3번)
+     */
+    public Map<Long, ScoringRubric> loadScoringRubrics(Set<Long> jobPostingIds) {
+        Map<Long, ScoringRubric> rubrics = new HashMap<>();
+        if (jobPostingIds.isEmpty()) {
+            return rubrics;
+        }
+        Map<String, Object> params = Map.of("ids", jobPostingIds);
+
+        Map<Long, int[]> weights = new HashMap<>();
+        namedParameterJdbcTemplate.query("SELECT id, resume_score_weight, cover_letter_score_weight FROM job_postings WHERE id IN (:ids)", params,
+                rs -> {
+                    weights.put(rs.getLong("id"), new int[]{rs.getInt("resume_score_weight"), rs.getInt("cover_letter_score_weight")});
+                });
+
+        Map<Long, Map<Long, Integer>> resumeItemMaxScores = new HashMap<>();
+        namedParameterJdbcTemplate.query("SELECT id, job_posting_id, max_score FROM resume_items WHERE job_posting_id IN (:ids)", params,
+                rs -> {
+                    resumeItemMaxScores.computeIfAbsent(rs.getLong("job_posting_id"), id -> new HashMap<>())
+                            .put(rs.getLong("id"), rs.getInt("max_score"));
+                });
+
+        Map<Long, Map<Long, Map<String, Map<Grade, Integer>>>> gradeScores = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                "SELECT q.job_posting_id, q.id AS question_id, c.name, d.grade, d.score_per_grade " +
+                "FROM cover_letter_questions q " +
+                "JOIN cover_letter_question_criteria c ON c.cover_letter_question_id = q.id " +
+                "JOIN cover_letter_question_criterion_details d ON d.cover_letter_question_criterion_id = c.id " +
+                "WHERE q.job_posting_id IN (:ids) AND d.grade IS NOT NULL AND d.score_per_grade IS NOT NULL", params,
+                rs -> {
+                    gradeScores.computeIfAbsent(rs.getLong("job_posting_id"), id -> new HashMap<>())
+                            .computeIfAbsent(rs.getLong("question_id"), id -> new HashMap<>())
+                            .computeIfAbsent(rs.getString("name"), name -> new EnumMap<>(Grade.class))
+                            .put(Grade.valueOf(rs.getString("grade")), rs.getInt("score_per_grade"));
+                });
+
+        for (Long jobPostingId : jobPostingIds) {
+            int[] weight = weights.getOrDefault(jobPostingId, new int[2]);
+            rubrics.put(jobPostingId, new ScoringRubric(jobPostingId, weight[0], weight[1],
+                    resumeItemMaxScores.getOrDefault(jobPostingId, Map.of()),
+                    gradeScores.getOrDefault(jobPostingId, Map.of())));
+        }
+        return rubrics;
+    }
+}
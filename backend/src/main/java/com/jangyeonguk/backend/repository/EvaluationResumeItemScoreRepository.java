@@ -0,0 +1,57 @@
+package com.jangyeonguk.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jangyeonguk.backend.domain.EvaluationResumeItemScore;
+
+/**
+ * 이력서 항목별 AI 점수 Repository
+ */
+@Repository
+public interface EvaluationResumeItemScoreRepository extends JpaRepository<EvaluationResumeItemScore, Long> {
+
+    /**
+     * 공고의 이력서 항목별 점수 통계 (job_posting_id, resume_item_id, score 인덱스만으로 집계)
+     */
+    @Query("SELECT s.resumeItemId AS resumeItemId, COUNT(s) AS scoreCount, AVG(s.score) AS average, " +
+           "MIN(s.score) AS minScore, MAX(s.score) AS maxScore " +
+           "FROM EvaluationResumeItemScore s WHERE s.jobPostingId = :jobPostingId " +
+           "GROUP BY s.resumeItemId ORDER BY s.resumeItemId")
+    List<ResumeItemScoreStats> findStatsByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
+    /**
+     * 특정 이력서 항목 점수가 minScore 이상인 지원서를 (score DESC, id DESC) 키셋으로 조회
+     * (job_posting_id, resume_item_id, score) 인덱스를 역순으로 읽으며, 이전 페이지의 마지막 (score, id) 이후부터 이어서 조회한다.
+     */
+    @Query("SELECT s.id AS itemScoreId, s.applicationId AS applicationId, s.score AS score " +
+           "FROM EvaluationResumeItemScore s " +
+           "WHERE s.jobPostingId = :jobPostingId AND s.resumeItemId = :resumeItemId AND s.score >= :minScore " +
+           "AND (s.score < :afterScore OR (s.score = :afterScore AND s.id < :afterId)) " +
+           "ORDER BY s.score DESC, s.id DESC")
+    List<ItemScoreKey> findApplicationIdsByMinScore(@Param("jobPostingId") Long jobPostingId,
+                                                    @Param("resumeItemId") Long resumeItemId,
+                                                    @Param("minScore") Integer minScore,
+                                                    @Param("afterScore") Integer afterScore,
+                                                    @Param("afterId") Long afterId,
+                                                    Pageable pageable);
+
+    interface ItemScoreKey {
+        Long getItemScoreId();
+        Long getApplicationId();
+        Integer getScore();
+    }
+
+    interface ResumeItemScoreStats {
+        Long getResumeItemId();
+        Long getScoreCount();
+        Double getAverage();
+        Integer getMinScore();
+        Integer getMaxScore();
+    }
+}
@@ -2,6 +2,7 @@ package com.jangyeonguk.backend.repository;
 
 import com.jangyeonguk.backend.domain.JobPosting;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -33,4 +34,17 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
            "LEFT JOIN FETCH jp.coverLetterQuestions " +
            "WHERE jp.id = :id")
     Optional<JobPosting> findByIdWithCoverLetterQuestions(@Param("id") Long id);
+
+    /**
+     * AI 서버에 동기화된 루브릭 버전 조회
+     */
+    @Query("SELECT jp.rubricVersion FROM JobPosting jp WHERE jp.id = :id")
+    Optional<String> findRubricVersionById(@Param("id") Long id);
+
+    /**
+     * 루브릭 버전만 갱신 (엔티티 전체를 저장하지 않아 동시 수정과 충돌하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE JobPosting jp SET jp.rubricVersion = :rubricVersion WHERE jp.id = :id")
+    int updateRubricVersion(@Param("id") Long id, @Param("rubricVersion") String rubricVersion);
 }
\ No newline at end of file
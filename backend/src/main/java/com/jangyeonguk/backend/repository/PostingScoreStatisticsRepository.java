@@ -0,0 +1,13 @@
+package com.jangyeonguk.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.jangyeonguk.backend.domain.PostingScoreStatistics;
+
+/**
+ * 공고별 점수 통계 체크포인트 Repository
+ */
+@Repository
+public interface PostingScoreStatisticsRepository extends JpaRepository<PostingScoreStatistics, Long> {
+}
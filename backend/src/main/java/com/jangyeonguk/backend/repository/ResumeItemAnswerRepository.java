@@ -2,8 +2,11 @@ package com.jangyeonguk.backend.repository;
 
 import com.jangyeonguk.backend.domain.ResumeItemAnswer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,4 +16,13 @@ import java.util.List;
 public interface ResumeItemAnswerRepository extends JpaRepository<ResumeItemAnswer, Long> {
     List<ResumeItemAnswer> findByApplicationId(Long applicationId);
     List<ResumeItemAnswer> findByApplicationIdAndResumeItemId(Long applicationId, Long resumeItemId);
+
+    /**
+     * 여러 지원서의 답변 목록을 이력서 항목과 함께 한 번에 조회 (FETCH JOIN)
+     */
+    @Query("SELECT ria FROM ResumeItemAnswer ria " +
+           "JOIN FETCH ria.resumeItem " +
+           "WHERE ria.application.id IN :applicationIds " +
+           "ORDER BY ria.id")
+    List<ResumeItemAnswer> findByApplicationIdInWithResumeItem(@Param("applicationIds") Collection<Long> applicationIds);
 }
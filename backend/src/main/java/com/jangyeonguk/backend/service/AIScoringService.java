@@ -1,19 +1,30 @@
 package com.jangyeonguk.backend.service;
+import com.jangyeonguk.backend.client.AIClient;
+import com.jangyeonguk.backend.domain.AiDispatchOutbox;
 import com.jangyeonguk.backend.domain.Application;
+import com.jangyeonguk.backend.domain.CoverLetterQuestionAnswer;
+import com.jangyeonguk.backend.domain.DispatchStatus;
 import com.jangyeonguk.backend.domain.JobPosting;
-import com.jangyeonguk.backend.dto.application.ApplicationCreateRequestDto;
+import com.jangyeonguk.backend.domain.ResumeItemAnswer;
+import com.jangyeonguk.backend.dto.application.ApplicationBatchSubmitResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationQueueStatusResponseDto;
+import com.jangyeonguk.backend.repository.AiDispatchOutboxRepository;
+import com.jangyeonguk.backend.repository.ApplicationRepository;
+import com.jangyeonguk.backend.repository.CoverLetterQuestionAnswerRepository;
+import com.jangyeonguk.backend.repository.ResumeItemAnswerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -24,99 +35,141 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AIScoringService {
 
-    @Value("${ai.base-url:http://localhost:8000}")
-    private String aiBaseUrl;
+    private final AiDispatchOutboxRepository aiDispatchOutboxRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ResumeItemAnswerRepository resumeItemAnswerRepository;
+    private final CoverLetterQuestionAnswerRepository coverLetterQuestionAnswerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AIClient aiClient;
 
 
     /**
      * 지원서 저장 후 AI 평가 요청 (통합 메서드)
+     * 지원서와 같은 트랜잭션에서 아웃박스에 기록만 하고, 실제 전송은 커밋 이후 AiDispatchRelay가 수행한다.
+     * AI 자동평가를 끈 공고는 대기열에 넣지 않는다.
      */
-    public void processApplicationEvaluation(Application savedApplication, ApplicationCreateRequestDto request) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                log.info("AI 평가 요청 시작 - Application ID: {}", savedApplication.getId());
-                
-                // AI에 데이터 전송 (응답 무시)
-                sendApplicationDataToAI(savedApplication);
-                
-                log.info("AI 평가 요청 완료 - Application ID: {} (백그라운드에서 평가 진행)", savedApplication.getId());
-                
-            } catch (Exception e) {
-                log.error("AI 평가 요청 실패 - Application ID: {}", savedApplication.getId(), e);
-            }
-        });
+    public void processApplicationEvaluation(Application savedApplication) {
+        if (Boolean.FALSE.equals(savedApplication.getJobPosting().getAiAutomaticEvaluation())) {
+            log.info("AI 자동평가 비활성 공고 - 평가 요청 생략 - Application ID: {}", savedApplication.getId());
+            return;
+        }
+
+        aiDispatchOutboxRepository.save(AiDispatchOutbox.pending(savedApplication));
+        eventPublisher.publishEvent(new AiDispatchRequestedEvent(savedApplication.getId()));
+
+        log.info("AI 평가 요청 등록 - Application ID: {}", savedApplication.getId());
+    }
+
+    /**
+     * AI 전송용 지원서 데이터와 답변 내용 해시
+     */
+    public record ApplicationPayload(String contentHash, Map<String, Object> body) {
     }
 
     /**
-     * AI에 지원서 데이터 전송 (Fire-and-Forget)
+     * AI 전송용 지원서 데이터 일괄 생성 (지원서 수와 무관하게 3번의 쿼리로 조회)
+     * 루브릭은 RubricSyncService로 미리 동기화하고, 지원서에는 항목/질문 ID와 루브릭 버전만 싣는다.
+     * 삭제 등으로 찾을 수 없는 지원서는 결과에서 빠진다.
      */
-    private void sendApplicationDataToAI(Application application) {
-        String url = aiBaseUrl + "/api/applications/submit";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        // Application 엔티티를 Map으로 변환 (모든 평가 데이터 포함)
-        Map<String, Object> applicationData = new HashMap<>();
-        applicationData.put("applicationId", application.getId());
-        applicationData.put("applicantName", application.getApplicant().getName());
-        applicationData.put("applicantEmail", application.getApplicant().getEmail());
-        applicationData.put("jobPostingId", application.getJobPosting().getId());
-        
-        // 이력서 답변 데이터
-        if (application.getResumeItemAnswers() != null) {
-            applicationData.put("resumeItemAnswers", application.getResumeItemAnswers().stream()
+    @Transactional(readOnly = true)
+    public Map<Long, ApplicationPayload> buildApplicationPayloads(Collection<Long> applicationIds, String rubricVersion) {
+        Map<Long, List<ResumeItemAnswer>> resumeAnswers = resumeItemAnswerRepository.findByApplicationIdInWithResumeItem(applicationIds).stream()
+                .collect(Collectors.groupingBy(answer -> answer.getApplication().getId()));
+        Map<Long, List<CoverLetterQuestionAnswer>> coverLetterAnswers = coverLetterQuestionAnswerRepository.findByApplicationIdInWithCoverLetterQuestion(applicationIds).stream()
+                .collect(Collectors.groupingBy(answer -> answer.getApplication().getId()));
+
+        Map<Long, ApplicationPayload> payloads = new LinkedHashMap<>();
+        for (Application application : applicationRepository.findAllByIdWithApplicant(applicationIds)) {
+            List<ResumeItemAnswer> applicationResumeAnswers = resumeAnswers.getOrDefault(application.getId(), List.of());
+            List<CoverLetterQuestionAnswer> applicationCoverLetterAnswers = coverLetterAnswers.getOrDefault(application.getId(), List.of());
+
+            // Application 엔티티를 Map으로 변환 (모든 평가 데이터 포함)
+            Map<String, Object> applicationData = new HashMap<>();
+            applicationData.put("applicationId", application.getId());
+            applicationData.put("applicantId", application.getApplicant().getId());
+            applicationData.put("applicantName", application.getApplicant().getName());
+            applicationData.put("applicantEmail", application.getApplicant().getEmail());
+            applicationData.put("jobPostingId", application.getJobPosting().getId());
+            applicationData.put("rubricVersion", rubricVersion);
+
+            // 이력서 답변 데이터
+            applicationData.put("resumeItemAnswers", applicationResumeAnswers.stream()
                 .map(answer -> Map.of(
                     "resumeItemId", answer.getResumeItem().getId(),
-                    "resumeItemName", answer.getResumeItem().getName(),
                     "resumeContent", answer.getResumeContent()
                 ))
                 .collect(Collectors.toList()));
-        }
-        
-        // 자기소개서 답변 데이터
-        if (application.getCoverLetterQuestionAnswers() != null) {
-            applicationData.put("coverLetterQuestionAnswers", application.getCoverLetterQuestionAnswers().stream()
+
+            // 자기소개서 답변 데이터
+            applicationData.put("coverLetterQuestionAnswers", applicationCoverLetterAnswers.stream()
                 .map(answer -> Map.of(
                     "coverLetterQuestionId", answer.getCoverLetterQuestion().getId(),
-                    "questionContent", answer.getCoverLetterQuestion().getContent(),
                     "answerContent", answer.getAnswerContent()
                 ))
                 .collect(Collectors.toList()));
+
+            String contentHash = EvaluationResultCache.contentHash(rubricVersion, applicationResumeAnswers, applicationCoverLetterAnswers);
+            payloads.put(application.getId(), new ApplicationPayload(contentHash, applicationData));
+        }
+        return payloads;
+    }
+
+    /**
+     * 같은 공고의 지원서들을 하나의 배열 payload로 AI에 전송
+     * 응답의 failedApplicationIds 로 일부 실패를 알려주며, 전체 실패 시에는 예외를 던진다.
+     */
+    public ApplicationBatchSubmitResponseDto sendApplicationBatch(Long jobPostingId, Collection<Map<String, Object>> applications) {
+        Map<String, Object> batch = Map.of(
+            "jobPostingId", jobPostingId,
+            "applications", applications
+        );
+        ApplicationBatchSubmitResponseDto response = aiClient.post("/api/applications/submit-batch", batch, ApplicationBatchSubmitResponseDto.class);
+        if (response == null) {
+            throw new IllegalStateException("AI 배치 제출 응답이 비어 있습니다 - JobPosting ID: " + jobPostingId);
         }
+        return response;
+    }
 
 
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(applicationData, headers);
+    /**
+     * 채용공고 수정 내용을 평가 대기열에 반영
+     * 평가 마감일은 대기 행의 우선순위에 반영하고, AI 자동평가가 꺼지면 아직 전송되지 않은 행을 종료한다.
+     * 루브릭은 커밋 이후 다시 스냅샷을 만들어 버전이 바뀐 경우에만 AI 서버에 전송된다.
+     */
+    @Transactional
+    public void syncEvaluationQueue(JobPosting jobPosting) {
+        eventPublisher.publishEvent(new RubricSyncRequestedEvent(jobPosting.getId()));
 
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.postForObject(url, request, String.class);
+        if (Boolean.FALSE.equals(jobPosting.getAiAutomaticEvaluation())) {
+            int cancelled = aiDispatchOutboxRepository.cancelPending(jobPosting.getId(),
+                    DispatchStatus.PENDING, DispatchStatus.FAILED, "AI 자동평가가 비활성화된 공고입니다.");
+            if (cancelled > 0) {
+                log.info("AI 자동평가 비활성화로 평가 대기 {}건 종료 - JobPosting ID: {}", cancelled, jobPosting.getId());
+            }
+            return;
+        }
+        aiDispatchOutboxRepository.updateEvaluationDeadline(jobPosting.getId(), jobPosting.getEvaluationEndDate(),
+                List.of(DispatchStatus.PENDING, DispatchStatus.IN_FLIGHT));
     }
 
+    /**
+     * 공고별 AI 평가 대기열 현황 (평가 마감일이 빠른 순)
+     */
+    @Transactional(readOnly = true)
+    public List<EvaluationQueueStatusResponseDto> getEvaluationQueueStatus() {
+        LocalDateTime now = LocalDateTime.now();
+        return aiDispatchOutboxRepository.findQueueDepths(DispatchStatus.PENDING, DispatchStatus.IN_FLIGHT).stream()
+                .map(depth -> EvaluationQueueStatusResponseDto.from(depth, now))
+                .sorted(Comparator.comparing(EvaluationQueueStatusResponseDto::getEvaluationDeadline,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .collect(Collectors.toList());
+    }
 
     /**
      * JobPosting 생성 후 AI 평가 기준 학습 요청
+     * 공고 트랜잭션 커밋 이후 RubricSyncService가 전체 루브릭 스냅샷을 전송한다.
      */
     public void processJobPostingEvaluation(JobPosting savedJobPosting) {
-        Map<String, Object> evaluationData = Map.of(
-            "jobPostingId", savedJobPosting.getId(),
-            "title", savedJobPosting.getTitle(),
-            "companyName", savedJobPosting.getCompany().getName(),
-            "jobRole", savedJobPosting.getJobRole(),
-            "totalScore", savedJobPosting.getTotalScore(),
-            "passingScore", savedJobPosting.getPassingScore()
-        );
-        
-        String url = aiBaseUrl + "/api/job-postings/evaluation-criteria";
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(evaluationData, headers);
-        
-        CompletableFuture.runAsync(() -> {
-            try {
-                new RestTemplate().postForObject(url, request, String.class);
-            } catch (Exception e) {
-                log.warn("AI 평가 기준 학습 데이터 전송 실패: {}", e.getMessage());
-            }
-        });
+        eventPublisher.publishEvent(new RubricSyncRequestedEvent(savedJobPosting.getId()));
     }
 }
@@ -0,0 +1,323 @@
+package com.jangyeonguk.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jangyeonguk.backend.client.AIClient;
+import com.jangyeonguk.backend.domain.AiDispatchOutbox;
+import com.jangyeonguk.backend.domain.DispatchStatus;
+import com.jangyeonguk.backend.dto.application.ApplicationBatchSubmitResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultRequestDto;
+import com.jangyeonguk.backend.repository.AiDispatchOutboxRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 평가 전송 릴레이
+ * ai_dispatch_outbox 에 커밋된 전송 대기 행을 공고별 마이크로 배치로 묶어 AI 서버에 전송한다.
+ * 공고별 대기 행이 batch-size 에 도달하거나 가장 오래된 행이 max-wait-ms 이상 기다리면 flush 하고,
+ * 실패한 지원서만 시도 횟수에 따라 지수 백오프 후 다시 대기 상태로 돌린다.
+ * AI 서킷이 열려 있는 동안에는 선점하지 않고 대기 행을 그대로 둔다.
+ * 답변 내용과 루브릭이 같은 지원서가 이미 평가되었다면 AI를 호출하지 않고 캐시된 결과를 반영한다.
+ *
+ * 라운드마다 공고는 평가 마감일이 빠른 순(마감일 없음은 마지막)으로 정렬되고, 공고당 최대 한 배치만 선점한다.
+ * 지원자가 많은 공고가 있어도 같은 라운드의 다른 공고가 굶지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiDispatchRelay {
+
+    private final AiDispatchOutboxRepository aiDispatchOutboxRepository;
+    private final AIScoringService aiScoringService;
+    private final RubricSyncService rubricSyncService;
+    private final ApplicationService applicationService;
+    private final EvaluationResultCache evaluationResultCache;
+    private final ObjectMapper objectMapper;
+    private final AIClient aiClient;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${ai.dispatch.batch-size:20}")
+    private int batchSize;
+
+    @Value("${ai.dispatch.max-wait-ms:2000}")
+    private long maxWaitMs;
+
+    @Value("${ai.dispatch.max-batches-per-round:16}")
+    private int maxBatchesPerRound;
+
+    @Value("${ai.dispatch.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${ai.dispatch.backoff-base-ms:2000}")
+    private long backoffBaseMs;
+
+    @Value("${ai.dispatch.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    @Value("${ai.dispatch.claim-timeout-ms:300000}")
+    private long claimTimeoutMs;
+
+    // 한 JVM 안에서는 하나의 드레인만 실행하고, 실행 중 들어온 요청은 끝난 뒤 한 번 더 돌린다
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean drainRequested = new AtomicBoolean(false);
+
+    /**
+     * 지원서 트랜잭션 커밋 직후 릴레이 실행 (배치가 가득 찬 공고만 즉시 flush)
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDispatchRequested(AiDispatchRequestedEvent event) {
+        drain();
+    }
+
+    /**
+     * 주기적으로 max-wait 가 지난 배치, 재시도 대상, 누락된 행 처리
+     */
+    @Scheduled(fixedDelayString = "${ai.dispatch.poll-interval-ms:1000}")
+    public void scheduledDrain() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(Duration.ofMillis(claimTimeoutMs));
+        Integer released = transactionTemplate.execute(status ->
+                aiDispatchOutboxRepository.releaseStaleClaims(DispatchStatus.PENDING, DispatchStatus.IN_FLIGHT, staleBefore));
+        if (released != null && released > 0) {
+            log.warn("오래된 AI 전송 선점 복구 - {}건", released);
+        }
+        drain();
+    }
+
+    /**
+     * flush 조건을 만족하는 배치가 더 이상 없을 때까지 전송
+     */
+    public void drain() {
+        if (!aiClient.isAvailable()) {
+            log.debug("AI 서킷 오픈 상태 - 전송 대기");
+            return;
+        }
+        drainRequested.set(true);
+        while (drainRequested.get() && draining.compareAndSet(false, true)) {
+            try {
+                drainRequested.set(false);
+                List<List<AiDispatchOutbox>> batches;
+                do {
+                    batches = claimBatches();
+                    // 배치들은 AI 전용 실행기에서 병렬로 전송하고, 모두 끝난 뒤 다음 라운드를 선점한다
+                    CompletableFuture.allOf(batches.stream()
+                                    .map(this::dispatchBatchAsync)
+                                    .toArray(CompletableFuture[]::new))
+                            .join();
+                } while (!batches.isEmpty() && aiClient.isAvailable());
+            } catch (Exception e) {
+                log.error("AI 전송 릴레이 실행 실패", e);
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    // 마감일이 빠른 공고 우선, 같으면 오래 기다린 공고 우선
+    private static final Comparator<AiDispatchOutboxRepository.DueGroup> DEADLINE_FIRST = Comparator
+            .comparing(AiDispatchOutboxRepository.DueGroup::getEvaluationDeadline, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(AiDispatchOutboxRepository.DueGroup::getReadySince);
+
+    /**
+     * flush 조건을 만족하는 공고별 배치 선점 (SKIP LOCKED 로 다른 인스턴스와 중복 선점 방지)
+     */
+    private List<List<AiDispatchOutbox>> claimBatches() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime flushBefore = now.minus(Duration.ofMillis(maxWaitMs));
+
+            List<List<AiDispatchOutbox>> batches = new ArrayList<>();
+            List<AiDispatchOutboxRepository.DueGroup> groups = new ArrayList<>(
+                    aiDispatchOutboxRepository.findDueGroups(DispatchStatus.PENDING, now));
+            groups.sort(DEADLINE_FIRST);
+
+            for (AiDispatchOutboxRepository.DueGroup group : groups) {
+                if (batches.size() >= maxBatchesPerRound) {
+                    break;
+                }
+                boolean full = group.getDueCount() >= batchSize;
+                boolean waitedEnough = !group.getReadySince().isAfter(flushBefore);
+                if (!full && !waitedEnough) {
+                    continue;
+                }
+
+                List<AiDispatchOutbox> rows = aiDispatchOutboxRepository.findDueForUpdateByJobPostingId(
+                        DispatchStatus.PENDING, group.getJobPostingId(), now, PageRequest.of(0, batchSize));
+                rows.forEach(row -> {
+                    row.setStatus(DispatchStatus.IN_FLIGHT);
+                    row.setClaimedAt(now);
+                    row.setAttempts(row.getAttempts() + 1);
+                });
+                if (!rows.isEmpty()) {
+                    batches.add(rows);
+                }
+            }
+            return batches;
+        });
+    }
+
+    private CompletableFuture<Void> dispatchBatchAsync(List<AiDispatchOutbox> rows) {
+        try {
+            return aiClient.submit(() -> dispatchBatch(rows));
+        } catch (RejectedExecutionException e) {
+            // 실행기 포화: 시도 횟수를 되돌리고 잠시 뒤 다시 선점되도록 반환
+            release(rows);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void dispatchBatch(List<AiDispatchOutbox> rows) {
+        Long jobPostingId = rows.get(0).getJobPostingId();
+        Set<Long> applicationIds = rows.stream()
+                .map(AiDispatchOutbox::getApplicationId)
+                .collect(Collectors.toSet());
+
+        Set<Long> accepted = new HashSet<>();
+        Map<Long, String> contentHashes = new HashMap<>();
+        try {
+            // 루브릭은 버전이 바뀐 경우에만 전송되고, 지원서에는 버전만 실린다
+            String rubricVersion = rubricSyncService.ensureSynced(jobPostingId);
+            Map<Long, AIScoringService.ApplicationPayload> payloads = aiScoringService.buildApplicationPayloads(applicationIds, rubricVersion);
+
+            // 지원서가 삭제된 경우 등 재시도해도 성공할 수 없는 행
+            Set<Long> missing = new HashSet<>(applicationIds);
+            missing.removeAll(payloads.keySet());
+
+            // 같은 답변/루브릭으로 이미 평가된 지원서는 캐시된 결과를 바로 반영하고 나머지만 전송
+            List<Map<String, Object>> toSend = new ArrayList<>();
+            payloads.forEach((applicationId, payload) -> {
+                contentHashes.put(applicationId, payload.contentHash());
+                if (applyCachedResult(payload)) {
+                    accepted.add(applicationId);
+                } else {
+                    toSend.add(payload.body());
+                }
+            });
+            int cached = accepted.size();
+
+            if (!toSend.isEmpty()) {
+                ApplicationBatchSubmitResponseDto response = aiScoringService.sendApplicationBatch(jobPostingId, toSend);
+                accepted.addAll(response.getAcceptedApplicationIds());
+                if (response.isRubricMissing()) {
+                    // AI 서버가 재시작 등으로 루브릭을 잃은 경우: 다음 재시도 전에 다시 동기화
+                    rubricSyncService.invalidate(jobPostingId);
+                }
+            }
+
+            complete(rows, accepted, missing, contentHashes, "AI 서버에서 거절된 지원서입니다.");
+            log.info("AI 평가 배치 전송 완료 - JobPosting ID: {}, 전송 {}건, 캐시 {}건, 거절 {}건, 누락 {}건",
+                    jobPostingId, accepted.size() - cached, cached, payloads.size() - accepted.size(), missing.size());
+        } catch (CallNotPermittedException | RequestNotPermitted e) {
+            // 서킷 오픈/레이트 리밋: 캐시로 처리된 행만 완료하고, 나머지는 AI 서버에 도달하지 않았으므로 시도 횟수를 소모하지 않는다
+            Map<Boolean, List<AiDispatchOutbox>> byAccepted = rows.stream()
+                    .collect(Collectors.partitioningBy(row -> accepted.contains(row.getApplicationId())));
+            complete(byAccepted.get(true), accepted, Set.of(), contentHashes, null);
+            release(byAccepted.get(false));
+            log.info("AI 호출 제한으로 배치 전송 보류 - JobPosting ID: {}, {}건: {}", jobPostingId, byAccepted.get(false).size(), e.getMessage());
+        } catch (Exception e) {
+            complete(rows, accepted, Set.of(), contentHashes, e.getMessage());
+            log.warn("AI 평가 배치 전송 실패 - JobPosting ID: {}, {}건: {}", jobPostingId, rows.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시된 평가 결과를 이 지원서의 결과로 저장 (저장 실패 시 AI 전송으로 대체)
+     */
+    private boolean applyCachedResult(AIScoringService.ApplicationPayload payload) {
+        Optional<EvaluationResultRequestDto> cached = evaluationResultCache.get(payload.contentHash());
+        if (cached.isEmpty()) {
+            return false;
+        }
+
+        // 캐시 항목은 공유되므로 복사본에 이 지원서의 식별 정보를 채운다
+        Map<String, Object> body = payload.body();
+        EvaluationResultRequestDto result = objectMapper.convertValue(cached.get(), EvaluationResultRequestDto.class);
+        result.setApplicationId((Long) body.get("applicationId"));
+        result.setApplicantId((Long) body.get("applicantId"));
+        result.setApplicantName((String) body.get("applicantName"));
+        result.setApplicantEmail((String) body.get("applicantEmail"));
+        result.setJobPostingId((Long) body.get("jobPostingId"));
+        try {
+            applicationService.processEvaluationResult(result);
+            return true;
+        } catch (Exception e) {
+            log.warn("캐시된 평가 결과 반영 실패 - Application ID: {}: {}", result.getApplicationId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 배치 결과 반영: 수락된 행은 완료, 누락된 행은 실패 확정, 나머지 행만 백오프 후 재시도
+     */
+    private void complete(List<AiDispatchOutbox> rows, Set<Long> accepted, Set<Long> missing,
+                          Map<Long, String> contentHashes, String error) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            aiDispatchOutboxRepository.findAllById(rows.stream().map(AiDispatchOutbox::getId).toList()).forEach(row -> {
+                row.setClaimedAt(null);
+                if (contentHashes.containsKey(row.getApplicationId())) {
+                    row.setContentHash(contentHashes.get(row.getApplicationId()));
+                }
+                if (accepted.contains(row.getApplicationId())) {
+                    row.setStatus(DispatchStatus.SENT);
+                    row.setSentAt(now);
+                    row.setLastError(null);
+                    return;
+                }
+
+                boolean gone = missing.contains(row.getApplicationId());
+                boolean permanent = gone || row.getAttempts() >= maxAttempts;
+                row.setStatus(permanent ? DispatchStatus.FAILED : DispatchStatus.PENDING);
+                row.setNextAttemptAt(now.plus(Duration.ofMillis(backoffMillis(row.getAttempts()))));
+                row.setLastError(gone ? "지원서를 찾을 수 없습니다." : error);
+            });
+        });
+    }
+
+    private void release(List<AiDispatchOutbox> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime retryAt = LocalDateTime.now().plus(Duration.ofMillis(backoffBaseMs));
+            aiDispatchOutboxRepository.findAllById(rows.stream().map(AiDispatchOutbox::getId).toList()).forEach(row -> {
+                row.setStatus(DispatchStatus.PENDING);
+                row.setAttempts(Math.max(row.getAttempts() - 1, 0));
+                row.setClaimedAt(null);
+                row.setNextAttemptAt(retryAt);
+            });
+        });
+    }
+
+    /**
+     * 시도 횟수에 따른 지수 백오프 (backoffBaseMs * 2^(attempts-1), 최대 backoffMaxMs)
+     */
+    private long backoffMillis(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(backoffMaxMs, backoffBaseMs << exponent);
+    }
+}
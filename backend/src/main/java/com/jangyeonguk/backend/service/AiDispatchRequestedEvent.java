@@ -0,0 +1,7 @@
+package com.jangyeonguk.backend.service;
+
+/**
+ * AI 평가 전송 요청 이벤트 (아웃박스 기록 트랜잭션 커밋 이후 릴레이를 깨우는 용도)
+ */
+public record AiDispatchRequestedEvent(Long applicationId) {
+}
@@ -0,0 +1,37 @@
+package com.jangyeonguk.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 지원서 목록 키셋 커서 (정렬 기준, 정렬 키, 동점 구분 ID)
+ * 정렬 기준별 키: id → (job_posting_id, applications.id), score → (total_score, evaluation_results.id),
+ * itemScore → (score, evaluation_resume_item_scores.id)
+ * 클라이언트에는 URL-safe Base64 문자열로만 노출한다.
+ */
+record ApplicationCursor(String sort, long key, long id) {
+
+    static final String SORT_ID = "id";
+    static final String SORT_SCORE = "score";
+    static final String SORT_ITEM_SCORE = "itemScore";
+
+    String encode() {
+        String raw = sort + ":" + key + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 커서 해석 (정렬 기준이 다르거나 형식이 잘못되면 IllegalArgumentException)
+     */
+    static ApplicationCursor decode(String cursor, String expectedSort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split(":");
+            if (parts.length == 3 && parts[0].equals(expectedSort)) {
+                return new ApplicationCursor(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 처리 (NumberFormatException 포함)
+        }
+        throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+    }
+}
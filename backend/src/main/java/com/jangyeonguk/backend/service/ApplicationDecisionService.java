@@ -0,0 +1,104 @@
+package com.jangyeonguk.backend.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jangyeonguk.backend.domain.ApplicationStatus;
+import com.jangyeonguk.backend.dto.application.BulkEvaluationDecisionRequestDto;
+import com.jangyeonguk.backend.dto.application.BulkEvaluationDecisionResponseDto;
+import com.jangyeonguk.backend.repository.ApplicationDecisionWriter;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공고 일괄 평가 결정 Service
+ * 대상 ID를 한 번에 조회한 뒤 chunk-size 개씩 집합 UPDATE 하므로 지원서 수와 무관하게 문장 수는 (대상 수 / chunk-size) 수준이다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationDecisionService {
+
+    private static final Set<ApplicationStatus> DECISION_STATUSES =
+            Set.of(ApplicationStatus.ACCEPTED, ApplicationStatus.REJECTED, ApplicationStatus.ON_HOLD);
+
+    private final JobPostingRepository jobPostingRepository;
+    private final ApplicationDecisionWriter applicationDecisionWriter;
+
+    @Value("${evaluation.decision.chunk-size:1000}")
+    private int chunkSize;
+
+    @Transactional
+    public BulkEvaluationDecisionResponseDto decide(Long jobPostingId, BulkEvaluationDecisionRequestDto request) {
+        if (!jobPostingRepository.existsById(jobPostingId)) {
+            throw new IllegalArgumentException("존재하지 않는 채용공고입니다: " + jobPostingId);
+        }
+        ApplicationStatus status = parseStatus(request.getStatus());
+
+        boolean byIds = request.getApplicationIds() != null && !request.getApplicationIds().isEmpty();
+        if (!byIds && request.getMinScore() == null && request.getMaxScore() == null) {
+            throw new IllegalArgumentException("지원서 ID 목록 또는 총점 기준(minScore/maxScore)이 필요합니다.");
+        }
+
+        List<Long> targets;
+        int skipped = 0;
+        if (byIds) {
+            Set<Long> requested = new LinkedHashSet<>(request.getApplicationIds());
+            requested.remove(null);
+            targets = new ArrayList<>(requested.size());
+            for (List<Long> chunk : chunks(new ArrayList<>(requested))) {
+                targets.addAll(applicationDecisionWriter.findEvaluatedIdsIn(jobPostingId, chunk));
+            }
+            skipped = requested.size() - targets.size();
+        } else {
+            targets = applicationDecisionWriter.findEvaluatedIdsByScore(jobPostingId, request.getMinScore(), request.getMaxScore());
+        }
+
+        int updated = 0;
+        for (List<Long> chunk : chunks(targets)) {
+            updated += applicationDecisionWriter.updateStatus(chunk, status);
+            if (request.getComment() != null) {
+                applicationDecisionWriter.updateHrComment(chunk, request.getComment());
+            }
+        }
+
+        log.info("일괄 평가 결정 완료 - 공고 ID: {}, 상태: {}, 대상: {}, 변경: {}, 제외: {}",
+                jobPostingId, status, targets.size(), updated, skipped);
+        return BulkEvaluationDecisionResponseDto.builder()
+                .jobPostingId(jobPostingId)
+                .status(status.name())
+                .targetCount(targets.size())
+                .updatedCount(updated)
+                .unchangedCount(targets.size() - updated)
+                .skippedCount(skipped)
+                .build();
+    }
+
+    private ApplicationStatus parseStatus(String status) {
+        try {
+            ApplicationStatus parsed = ApplicationStatus.valueOf(status);
+            if (DECISION_STATUSES.contains(parsed)) {
+                return parsed;
+            }
+        } catch (IllegalArgumentException | NullPointerException e) {
+            // 아래에서 처리
+        }
+        throw new IllegalArgumentException("유효하지 않은 평가 상태입니다: " + status);
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+}
@@ -9,11 +9,18 @@ import com.jangyeonguk.backend.domain.ResumeItem;
 import com.jangyeonguk.backend.domain.ResumeItemAnswer;
 import com.jangyeonguk.backend.dto.application.ApplicationCreateRequestDto;
 import com.jangyeonguk.backend.dto.application.ApplicationResponseDto;
+import com.jangyeonguk.backend.dto.application.ApplicationSummaryResponseDto;
+import com.jangyeonguk.backend.dto.application.CursorPageResponseDto;
 import com.jangyeonguk.backend.dto.evaluation.EvaluationResultRequestDto;
 import com.jangyeonguk.backend.repository.*;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,8 +45,23 @@ public class ApplicationService {
     private final CoverLetterQuestionAnswerRepository coverLetterQuestionAnswerRepository;
     private final EvaluationResultRepository evaluationResultRepository;
     private final AIScoringService aiScoringService;
+    private final AiDispatchOutboxRepository aiDispatchOutboxRepository;
+    private final EvaluationResultCache evaluationResultCache;
+    private final EvaluationResultWriter evaluationResultWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private final ObjectMapper objectMapper;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    // 요약 목록 정렬 기준 → JPQL 정렬식 (허용된 값만 쿼리에 들어감)
+    private static final Map<String, String> SUMMARY_SORTS = Map.of(
+            "id", "a.id",
+            "name", "ap.name",
+            "status", "a.status",
+            "score", "er.totalScore",
+            "createdAt", "a.createdAt");
+
+    @Value("${application.list.max-page-size:200}")
+    private int maxPageSize;
 
     /**
      * 지원서 제출
@@ -61,55 +83,77 @@ public class ApplicationService {
                 });
 
         // 지원서 생성
+        // 연관 주인(ManyToOne)만 설정한다. applicant.addApplication / jobPosting.addApplication 을 호출하면
+        // LAZY 컬렉션(Applicant.applications, JobPosting.applications)이 초기화되어 기존 지원서 전체를 로드하게 된다.
         Application application = Application.builder()
                 .status(ApplicationStatus.BEFORE_EVALUATION)
+                .applicant(applicant)
+                .jobPosting(jobPosting)
                 .build();
-        
-        // 양방향 관계 설정
-        applicant.addApplication(application);
-        jobPosting.addApplication(application);
 
         // 지원서 저장
         Application savedApplication = applicationRepository.save(application);
 
-        // 이력서 항목 답변 저장
-        if (request.getResumeItemAnswers() != null) {
+        // 이력서 항목 답변 저장 (항목은 findAllById 한 번으로 조회, 답변은 saveAll로 배치 INSERT)
+        if (request.getResumeItemAnswers() != null && !request.getResumeItemAnswers().isEmpty()) {
+            Map<Long, ResumeItem> resumeItems = resumeItemRepository.findAllById(
+                            request.getResumeItemAnswers().stream()
+                                    .map(ApplicationCreateRequestDto.ResumeItemAnswerDto::getResumeItemId)
+                                    .collect(Collectors.toSet()))
+                    .stream()
+                    .collect(Collectors.toMap(ResumeItem::getId, item -> item));
+
+            List<ResumeItemAnswer> answers = new ArrayList<>();
             request.getResumeItemAnswers().forEach(answerDto -> {
-                ResumeItem resumeItem = resumeItemRepository.findById(answerDto.getResumeItemId())
-                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이력서 항목입니다: " + answerDto.getResumeItemId()));
+                ResumeItem resumeItem = resumeItems.get(answerDto.getResumeItemId());
+                if (resumeItem == null) {
+                    throw new IllegalArgumentException("존재하지 않는 이력서 항목입니다: " + answerDto.getResumeItemId());
+                }
 
                 ResumeItemAnswer answer = ResumeItemAnswer.builder()
                         .resumeContent(answerDto.getResumeContent())
                         .resumeItem(resumeItem)
                         .build();
-                
+
                 // 양방향 관계 설정
                 savedApplication.addResumeItemAnswer(answer);
-                resumeItemAnswerRepository.save(answer);
+                answers.add(answer);
             });
+            resumeItemAnswerRepository.saveAll(answers);
         }
 
-        // 자기소개서 질문 답변 저장
-        if (request.getCoverLetterQuestionAnswers() != null) {
+        // 자기소개서 질문 답변 저장 (질문은 findAllById 한 번으로 조회, 답변은 saveAll로 배치 INSERT)
+        if (request.getCoverLetterQuestionAnswers() != null && !request.getCoverLetterQuestionAnswers().isEmpty()) {
+            Map<Long, CoverLetterQuestion> questions = coverLetterQuestionRepository.findAllById(
+                            request.getCoverLetterQuestionAnswers().stream()
+                                    .map(ApplicationCreateRequestDto.CoverLetterQuestionAnswerDto::getCoverLetterQuestionId)
+                                    .collect(Collectors.toSet()))
+                    .stream()
+                    .collect(Collectors.toMap(CoverLetterQuestion::getId, question -> question));
+
+            List<CoverLetterQuestionAnswer> answers = new ArrayList<>();
             request.getCoverLetterQuestionAnswers().forEach(answerDto -> {
-                CoverLetterQuestion question = coverLetterQuestionRepository.findById(answerDto.getCoverLetterQuestionId())
-                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 자기소개서 질문입니다: " + answerDto.getCoverLetterQuestionId()));
+                CoverLetterQuestion question = questions.get(answerDto.getCoverLetterQuestionId());
+                if (question == null) {
+                    throw new IllegalArgumentException("존재하지 않는 자기소개서 질문입니다: " + answerDto.getCoverLetterQuestionId());
+                }
 
                 CoverLetterQuestionAnswer answer = CoverLetterQuestionAnswer.builder()
                         .answerContent(answerDto.getAnswerContent())
                         .coverLetterQuestion(question)
                         .build();
-                
-                // 양방향 관계 설정 
+
+                // 양방향 관계 설정
                 savedApplication.addCoverLetterQuestionAnswer(answer);
-                coverLetterQuestionAnswerRepository.save(answer);
+                answers.add(answer);
             });
+            coverLetterQuestionAnswerRepository.saveAll(answers);
         }
 
         // AI 평가 요청
-        aiScoringService.processApplicationEvaluation(savedApplication, request);
+        aiScoringService.processApplicationEvaluation(savedApplication);
 
-        return ApplicationResponseDto.from(savedApplication);
+        return ApplicationResponseDto.from(savedApplication, null); // 제출 직후에는 평가 결과가 없음
     }
 
     /**
@@ -117,59 +161,62 @@ public class ApplicationService {
      */
     @Transactional
     public void processEvaluationResult(EvaluationResultRequestDto evaluationResult) {
-        try {
-            // 지원서 조회
-            Application application = applicationRepository.findById(evaluationResult.getApplicationId())
-                    .orElseThrow(() -> new IllegalArgumentException("지원서를 찾을 수 없습니다."));
-
-            // 지원서 상태를 '평가중'으로 변경
-            application.setStatus(ApplicationStatus.IN_PROGRESS);
-            applicationRepository.save(application);
-
-
-            // 평가 결과 저장/업데이트
-            Optional<EvaluationResult> existingResult = evaluationResultRepository.findByApplicationId(application.getId());
-            
-            if (existingResult.isPresent()) {
-                // 기존 평가 결과 업데이트
-                EvaluationResult existingEntity = existingResult.get();
-                existingEntity.setTotalScore(calculateTotalScoreFromEvaluations(evaluationResult));
-                existingEntity.setResumeScores(objectMapper.writeValueAsString(evaluationResult.getResumeEvaluations()));
-                existingEntity.setCoverLetterScores(objectMapper.writeValueAsString(evaluationResult.getCoverLetterQuestionEvaluations()));
-                existingEntity.setOverallEvaluation(objectMapper.writeValueAsString(evaluationResult.getOverallAnalysis()));
-                evaluationResultRepository.save(existingEntity);
-            } else {
-                // 새로운 평가 결과 생성
-                EvaluationResult newEntity = EvaluationResult.builder()
-                        .application(application)
-                        .jobPosting(application.getJobPosting())
-                        .totalScore(calculateTotalScoreFromEvaluations(evaluationResult))
-                        .resumeScores(objectMapper.writeValueAsString(evaluationResult.getResumeEvaluations()))
-                        .coverLetterScores(objectMapper.writeValueAsString(evaluationResult.getCoverLetterQuestionEvaluations()))
-                        .overallEvaluation(objectMapper.writeValueAsString(evaluationResult.getOverallAnalysis()))
-                        .build();
-                evaluationResultRepository.save(newEntity);
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("평가 결과 처리에 실패했습니다: " + e.getMessage());
+        validateEvaluationResult(evaluationResult);
+        String failure = processEvaluationResults(List.of(evaluationResult)).get(evaluationResult.getApplicationId());
+        if (failure != null) {
+            throw new IllegalArgumentException(failure);
         }
     }
 
     /**
-     * 평가 결과에서 총점 계산(헬퍼 메서드)
+     * 평가 결과 반영에 필요한 값 검증 (수신 저널에 기록하기 전에도 호출하여, 반영할 수 없는 결과를 접수하지 않는다)
      */
-    private Integer calculateTotalScoreFromEvaluations(EvaluationResultRequestDto evaluationResult) {
-        int totalScore = 0;
-        
-        // 이력서 평가 점수 합산
-        if (evaluationResult.getResumeEvaluations() != null) {
-            totalScore += evaluationResult.getResumeEvaluations().stream()
-                    .mapToInt(EvaluationResultRequestDto.ResumeEvaluationDto::getScore)
-                    .sum();
+    public void validateEvaluationResult(EvaluationResultRequestDto evaluationResult) {
+        if (evaluationResult.getApplicationId() == null) {
+            throw new IllegalArgumentException("지원서 ID가 없습니다.");
         }
-    
-        
-        return totalScore;
+        if (evaluationResult.getResumeEvaluations() == null
+                && evaluationResult.getCoverLetterQuestionEvaluations() == null
+                && evaluationResult.getOverallAnalysis() == null) {
+            throw new IllegalArgumentException("평가 내용이 없습니다.");
+        }
+        if (evaluationResult.getResumeEvaluations() != null && evaluationResult.getResumeEvaluations().stream()
+                .anyMatch(evaluation -> evaluation == null || evaluation.getResumeItemId() == null)) {
+            throw new IllegalArgumentException("이력서 항목 ID가 없는 평가가 있습니다.");
+        }
+        if (evaluationResult.getCoverLetterQuestionEvaluations() != null && evaluationResult.getCoverLetterQuestionEvaluations().stream()
+                .anyMatch(evaluation -> evaluation == null || evaluation.getCoverLetterQuestionId() == null)) {
+            throw new IllegalArgumentException("자기소개서 문항 ID가 없는 평가가 있습니다.");
+        }
+        if (evaluationResult.getCoverLetterQuestionEvaluations() != null && evaluationResult.getCoverLetterQuestionEvaluations().stream()
+                .anyMatch(evaluation -> evaluation.getAnswerEvaluations() != null && evaluation.getAnswerEvaluations().stream().anyMatch(Objects::isNull))) {
+            throw new IllegalArgumentException("비어 있는 자기소개서 기준별 평가가 있습니다.");
+        }
+    }
+
+    /**
+     * 평가 결과 일괄 처리 (JDBC 배치 upsert, 지원서 상태를 '평가중'으로 변경)
+     *
+     * @return 저장하지 못한 지원서 ID와 사유
+     */
+    @Transactional
+    public Map<Long, String> processEvaluationResults(List<EvaluationResultRequestDto> evaluationResults) {
+        EvaluationResultWriter.WriteResult writeResult = evaluationResultWriter.write(evaluationResults);
+        Map<Long, String> failures = writeResult.failures();
+        if (!writeResult.written().isEmpty()) {
+            eventPublisher.publishEvent(new EvaluationResultsWrittenEvent(writeResult.written()));
+        }
+
+        // 같은 답변/루브릭의 재제출은 AI 호출 없이 이 결과를 재사용
+        Map<Long, EvaluationResultRequestDto> saved = evaluationResults.stream()
+                .filter(result -> result.getApplicationId() != null && !failures.containsKey(result.getApplicationId()))
+                .collect(Collectors.toMap(EvaluationResultRequestDto::getApplicationId, result -> result, (first, last) -> last));
+        if (!saved.isEmpty()) {
+            aiDispatchOutboxRepository.findByApplicationIdIn(saved.keySet()).stream()
+                    .filter(outbox -> outbox.getContentHash() != null)
+                    .forEach(outbox -> evaluationResultCache.put(outbox.getContentHash(), saved.get(outbox.getApplicationId())));
+        }
+        return failures;
     }
 
     /**
@@ -178,29 +225,157 @@ public class ApplicationService {
     public ApplicationResponseDto getApplicationById(Long applicationId) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new IllegalArgumentException("지원서를 찾을 수 없습니다."));
-        return ApplicationResponseDto.from(application);
+        return ApplicationResponseDto.from(application, evaluationResultRepository.findByApplicationId(applicationId).orElse(null));
     }
 
     /**
-     * 모든 지원서 조회
+     * 전체 지원서 커서 페이지 조회 ((job_posting_id, id) 순)
      */
-    public List<ApplicationResponseDto> getApplications() {
-        List<Application> applications = applicationRepository.findAll();
-        return applications.stream()
-                .map(ApplicationResponseDto::from)
-                .collect(Collectors.toList());
+    public CursorPageResponseDto<ApplicationResponseDto> getApplications(String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        ApplicationCursor after = cursor == null || cursor.isBlank()
+                ? new ApplicationCursor(ApplicationCursor.SORT_ID, 0, 0)
+                : ApplicationCursor.decode(cursor, ApplicationCursor.SORT_ID);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부를 판단
+        List<Application> applications = applicationRepository.findPageAfter(after.key(), after.id(), PageRequest.of(0, pageSize + 1));
+        boolean hasNext = applications.size() > pageSize;
+        List<Application> page = hasNext ? applications.subList(0, pageSize) : applications;
+        String nextCursor = null;
+        if (hasNext) {
+            Application last = page.get(page.size() - 1);
+            nextCursor = new ApplicationCursor(ApplicationCursor.SORT_ID, last.getJobPosting().getId(), last.getId()).encode();
+        }
+        return toCursorPage(page, pageSize, nextCursor);
+    }
+
+    /**
+     * 공고별 지원서 커서 페이지 조회
+     *
+     * @param sort id (지원 순, 기본값) 또는 score (총점 높은 순, 평가 결과가 있는 지원서만)
+     */
+    public CursorPageResponseDto<ApplicationResponseDto> getApplicationsByJobPosting(Long jobPostingId, String cursor, Integer size, String sort) {
+        int pageSize = pageSize(size);
+        String sortKey = sort == null || sort.isBlank() ? ApplicationCursor.SORT_ID : sort;
+        boolean first = cursor == null || cursor.isBlank();
+
+        if (ApplicationCursor.SORT_ID.equals(sortKey)) {
+            long afterId = first ? 0 : ApplicationCursor.decode(cursor, sortKey).id();
+            List<Application> applications = applicationRepository.findPageByJobPostingIdAfter(jobPostingId, afterId, PageRequest.of(0, pageSize + 1));
+            boolean hasNext = applications.size() > pageSize;
+            List<Application> page = hasNext ? applications.subList(0, pageSize) : applications;
+            String nextCursor = hasNext
+                    ? new ApplicationCursor(sortKey, jobPostingId, page.get(page.size() - 1).getId()).encode()
+                    : null;
+            return toCursorPage(page, pageSize, nextCursor);
+        }
+
+        if (ApplicationCursor.SORT_SCORE.equals(sortKey)) {
+            ApplicationCursor after = first
+                    ? new ApplicationCursor(sortKey, Integer.MAX_VALUE, Long.MAX_VALUE)
+                    : ApplicationCursor.decode(cursor, sortKey);
+            List<EvaluationResultRepository.ScoreKey> keys = evaluationResultRepository.findScoreKeysAfter(
+                    jobPostingId, (int) after.key(), after.id(), PageRequest.of(0, pageSize + 1));
+            boolean hasNext = keys.size() > pageSize;
+            List<EvaluationResultRepository.ScoreKey> pageKeys = hasNext ? keys.subList(0, pageSize) : keys;
+
+            // 점수 순서를 유지하며 지원서를 한 번에 로드
+            Map<Long, Application> applications = applicationRepository.findAllByIdWithApplicant(
+                            pageKeys.stream().map(EvaluationResultRepository.ScoreKey::getApplicationId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Application::getId, application -> application));
+            List<Application> page = pageKeys.stream()
+                    .map(key -> applications.get(key.getApplicationId()))
+                    .filter(Objects::nonNull)
+                    .toList();
+            String nextCursor = null;
+            if (hasNext) {
+                EvaluationResultRepository.ScoreKey last = pageKeys.get(pageKeys.size() - 1);
+                nextCursor = new ApplicationCursor(sortKey, last.getTotalScore(), last.getEvaluationResultId()).encode();
+            }
+            return toCursorPage(page, pageSize, nextCursor);
+        }
+
+        throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sort);
+    }
+
+    /**
+     * 공고별 지원서 요약 목록 (목록 화면용, 쿼리 1번 + 전체 건수 1번)
+     *
+     * @param sort      id, name, status, score, createdAt 중 하나 (기본값 id)
+     * @param direction asc 또는 desc (기본값 asc)
+     * @param statuses  비어 있으면 전체 상태
+     */
+    public ApplicationSummaryResponseDto getApplicationSummaries(Long jobPostingId, Integer page, Integer size,
+                                                                 String sort, String direction, List<String> statuses,
+                                                                 String aiRecommendation, Integer minScore, Integer maxScore) {
+        String sortExpression = SUMMARY_SORTS.get(sort == null || sort.isBlank() ? "id" : sort);
+        if (sortExpression == null) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sort);
+        }
+        Sort.Direction sortDirection = direction == null || direction.isBlank()
+                ? Sort.Direction.ASC
+                : Sort.Direction.fromOptionalString(direction)
+                        .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 정렬 방향입니다: " + direction));
+        // 같은 값끼리는 지원서 ID 순으로 고정하여 페이지 경계가 흔들리지 않도록 함
+        Sort order = JpaSort.unsafe(sortDirection, sortExpression).and(JpaSort.unsafe(sortDirection, "a.id"));
+
+        Set<ApplicationStatus> statusFilter = EnumSet.noneOf(ApplicationStatus.class);
+        if (statuses != null) {
+            for (String status : statuses) {
+                try {
+                    statusFilter.add(ApplicationStatus.valueOf(status));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("유효하지 않은 평가 상태입니다: " + status);
+                }
+            }
+        }
+        boolean anyStatus = statusFilter.isEmpty();
+
+        Pageable pageable = PageRequest.of(page == null || page < 0 ? 0 : page, pageSize(size), order);
+        return ApplicationSummaryResponseDto.from(jobPostingId, applicationRepository.findSummariesByJobPostingId(
+                jobPostingId, anyStatus, anyStatus ? EnumSet.allOf(ApplicationStatus.class) : statusFilter,
+                aiRecommendation == null || aiRecommendation.isBlank() ? null : aiRecommendation,
+                minScore, maxScore, pageable));
     }
 
     /**
-     * 공고별 지원서 조회
+     * 지원서 목록 응답 생성 (지원서 수와 무관하게 답변 조회 2번, 평가 결과 조회 1번)
+     * 지원서는 지원자가 함께 로드되어 있어야 하며, 답변은 항목/질문과 함께 일괄 조회한다.
      */
-    public List<ApplicationResponseDto> getApplicationsByJobPosting(Long jobPostingId) {
-        List<Application> applications = applicationRepository.findByJobPostingId(jobPostingId);
+    public List<ApplicationResponseDto> toResponses(List<Application> applications) {
+        if (applications.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> applicationIds = applications.stream().map(Application::getId).toList();
+        Map<Long, List<ResumeItemAnswer>> resumeAnswers = resumeItemAnswerRepository.findByApplicationIdInWithResumeItem(applicationIds).stream()
+                .collect(Collectors.groupingBy(answer -> answer.getApplication().getId()));
+        Map<Long, List<CoverLetterQuestionAnswer>> coverLetterAnswers = coverLetterQuestionAnswerRepository.findByApplicationIdInWithCoverLetterQuestion(applicationIds).stream()
+                .collect(Collectors.groupingBy(answer -> answer.getApplication().getId()));
+        Map<Long, EvaluationResult> evaluationResults = evaluationResultRepository.findByApplicationIdIn(applicationIds).stream()
+                .collect(Collectors.toMap(result -> result.getApplication().getId(), result -> result));
+
         return applications.stream()
-                .map(ApplicationResponseDto::from)
+                .map(application -> ApplicationResponseDto.from(application,
+                        resumeAnswers.getOrDefault(application.getId(), List.of()),
+                        coverLetterAnswers.getOrDefault(application.getId(), List.of()),
+                        evaluationResults.get(application.getId())))
                 .collect(Collectors.toList());
     }
 
+    private int pageSize(Integer size) {
+        return size == null || size <= 0 ? Math.min(DEFAULT_PAGE_SIZE, maxPageSize) : Math.min(size, maxPageSize);
+    }
+
+    private CursorPageResponseDto<ApplicationResponseDto> toCursorPage(List<Application> page, int pageSize, String nextCursor) {
+        return CursorPageResponseDto.<ApplicationResponseDto>builder()
+                .items(toResponses(page))
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
 
     /**
      * 지원서 평가 의견 및 상태 저장
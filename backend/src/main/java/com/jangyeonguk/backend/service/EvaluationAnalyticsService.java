@@ -0,0 +1,98 @@
+package com.jangyeonguk.backend.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jangyeonguk.backend.dto.application.CursorPageResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationAnalyticsResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationRankingResponseDto;
+import com.jangyeonguk.backend.repository.EvaluationCoverLetterGradeRepository;
+import com.jangyeonguk.backend.repository.EvaluationResultRepository;
+import com.jangyeonguk.backend.repository.EvaluationResumeItemScoreRepository;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 평가 통계 Service
+ * 정규화된 항목별 점수/기준별 등급 테이블을 SQL로 집계하므로 평가 결과 JSON 을 읽지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EvaluationAnalyticsService {
+
+    private final JobPostingRepository jobPostingRepository;
+    private final EvaluationResumeItemScoreRepository evaluationResumeItemScoreRepository;
+    private final EvaluationCoverLetterGradeRepository evaluationCoverLetterGradeRepository;
+    private final EvaluationResultRepository evaluationResultRepository;
+
+    @Value("${evaluation.ranking.max-page-size:500}")
+    private int maxPageSize;
+
+    /**
+     * 공고의 이력서 항목별 점수 통계와 자기소개서 기준별 등급 분포
+     */
+    public EvaluationAnalyticsResponseDto getEvaluationAnalytics(Long jobPostingId) {
+        requireJobPosting(jobPostingId);
+        return EvaluationAnalyticsResponseDto.from(jobPostingId,
+                evaluationResumeItemScoreRepository.findStatsByJobPostingId(jobPostingId),
+                evaluationCoverLetterGradeRepository.findGradeCountsByJobPostingId(jobPostingId));
+    }
+
+    /**
+     * 이력서 항목 점수가 minScore 이상인 지원서 ID 커서 페이지 (점수 내림차순, 최대 max-page-size 건)
+     */
+    public CursorPageResponseDto<Long> findApplicationIdsByResumeItemScore(Long jobPostingId, Long resumeItemId, Integer minScore,
+                                                                          String cursor, int size) {
+        requireJobPosting(jobPostingId);
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다.");
+        }
+        int pageSize = Math.min(size, maxPageSize);
+        ApplicationCursor after = cursor == null || cursor.isBlank()
+                ? new ApplicationCursor(ApplicationCursor.SORT_ITEM_SCORE, Integer.MAX_VALUE, Long.MAX_VALUE)
+                : ApplicationCursor.decode(cursor, ApplicationCursor.SORT_ITEM_SCORE);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부를 판단
+        List<EvaluationResumeItemScoreRepository.ItemScoreKey> keys = evaluationResumeItemScoreRepository.findApplicationIdsByMinScore(
+                jobPostingId, resumeItemId, minScore, (int) after.key(), after.id(), PageRequest.of(0, pageSize + 1));
+        boolean hasNext = keys.size() > pageSize;
+        List<EvaluationResumeItemScoreRepository.ItemScoreKey> page = hasNext ? keys.subList(0, pageSize) : keys;
+        String nextCursor = null;
+        if (hasNext) {
+            EvaluationResumeItemScoreRepository.ItemScoreKey last = page.get(page.size() - 1);
+            nextCursor = new ApplicationCursor(ApplicationCursor.SORT_ITEM_SCORE, last.getScore(), last.getItemScoreId()).encode();
+        }
+        return CursorPageResponseDto.<Long>builder()
+                .items(page.stream().map(EvaluationResumeItemScoreRepository.ItemScoreKey::getApplicationId).toList())
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 공고 내 가중 총점 순위 (page 0, size K 로 상위 K명 조회)
+     */
+    public EvaluationRankingResponseDto getRanking(Long jobPostingId, int page, int size) {
+        requireJobPosting(jobPostingId);
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("page 는 0 이상, size 는 1 이상이어야 합니다.");
+        }
+        int pageSize = Math.min(size, maxPageSize);
+        return EvaluationRankingResponseDto.from(jobPostingId, page, pageSize,
+                evaluationResultRepository.countByJobPostingId(jobPostingId),
+                evaluationResultRepository.findRankingByJobPostingId(jobPostingId, PageRequest.of(page, pageSize)));
+    }
+
+    private void requireJobPosting(Long jobPostingId) {
+        if (!jobPostingRepository.existsById(jobPostingId)) {
+            throw new IllegalArgumentException("존재하지 않는 채용공고입니다: " + jobPostingId);
+        }
+    }
+}
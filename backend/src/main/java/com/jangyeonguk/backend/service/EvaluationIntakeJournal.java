@@ -0,0 +1,433 @@
+package com.jangyeonguk.backend.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultRequestDto;
+import com.jangyeonguk.backend.exception.IntakeBacklogFullException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 평가 결과 수신 저널
+ * 콜백 본문을 로컬 파일에 순번과 함께 append(fsync) 한 뒤 바로 응답하고, 지원서 ID 기준으로 나눈 단일 스레드 소비자들이
+ * 지원서별 수신 순서대로 DB에 반영한다. 연속으로 반영된 마지막 순번을 체크포인트로 남겨 재시작 시 그 이후만 다시 반영한다.
+ * fsync 는 그룹 커밋으로 처리한다. 쓰기만 전역 잠금 안에서 하고, 기다리던 요청 중 하나가 그때까지 쓴 기록을 한 번에 fsync 한다.
+ * 반영 대기 건수는 max-pending 으로 제한하여, 가득 차면 append-wait-ms 동안 기다린 뒤 IntakeBacklogFullException(503)으로 거절한다.
+ * 검증 오류(IllegalArgumentException)가 아닌 반영 실패는 지수 백오프로 계속 재시도하며, 그동안 체크포인트는 전진하지 않는다.
+ */
+@Slf4j
+@Service
+public class EvaluationIntakeJournal {
+
+    private final ApplicationService applicationService;
+    private final ObjectMapper objectMapper;
+    private final Path journalFile;
+    private final Path checkpointFile;
+    private final boolean fsync;
+    private final long retryBaseMs;
+    private final long retryMaxMs;
+    private final int maxPending;
+    private final long appendWaitMs;
+    private final long compactBytes;
+    private final ExecutorService[] consumers;
+    private Semaphore capacity; // 남은 반영 대기 자리 (재반영 건이 max-pending 을 넘으면 음수에서 시작)
+
+    private final Object writeLock = new Object();
+    private final AtomicLong lastSeq = new AtomicLong();
+    private volatile long writtenSeq; // 파일에 쓰기를 마친 마지막 순번 (writeLock 안에서 갱신)
+
+    private final Object syncLock = new Object();
+    private long syncedSeq; // fsync 로 디스크에 반영된 마지막 순번 (syncLock 으로 보호)
+    private boolean syncing; // 다른 요청이 fsync 중인지 (syncLock 으로 보호)
+    private final ConcurrentSkipListMap<Long, Long> pending = new ConcurrentSkipListMap<>(); // 순번 -> 기록 시각(ms)
+    private volatile long checkpointSeq;
+    private volatile FileChannel channel; // 정리(compact) 시 새 파일로 교체됨
+
+    private final Counter appended;
+    private final Counter applied;
+    private final Counter failed;
+    private final Counter retried;
+
+    public EvaluationIntakeJournal(ApplicationService applicationService,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${ai.intake.journal-dir:./data/intake-journal}") String journalDir,
+                                   @Value("${ai.intake.consumers:4}") int consumerCount,
+                                   @Value("${ai.intake.fsync:true}") boolean fsync,
+                                   @Value("${ai.intake.retry-base-ms:1000}") long retryBaseMs,
+                                   @Value("${ai.intake.retry-max-ms:60000}") long retryMaxMs,
+                                   @Value("${ai.intake.max-pending:10000}") int maxPending,
+                                   @Value("${ai.intake.append-wait-ms:2000}") long appendWaitMs,
+                                   @Value("${ai.intake.compact-bytes:67108864}") long compactBytes) {
+        this.applicationService = applicationService;
+        this.objectMapper = objectMapper;
+        this.journalFile = Paths.get(journalDir, "evaluation-results.journal");
+        this.checkpointFile = Paths.get(journalDir, "evaluation-results.checkpoint");
+        this.fsync = fsync;
+        this.retryBaseMs = retryBaseMs;
+        this.retryMaxMs = retryMaxMs;
+        this.maxPending = maxPending;
+        this.appendWaitMs = appendWaitMs;
+        this.compactBytes = compactBytes;
+
+        // 지원서 ID로 소비자를 고정하므로 같은 지원서의 결과는 항상 같은 스레드에서 순서대로 반영된다
+        this.consumers = new ExecutorService[consumerCount];
+        for (int i = 0; i < consumerCount; i++) {
+            String threadName = "evaluation-intake-" + i;
+            consumers[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        this.appended = Counter.builder("ai.intake.appended")
+                .description("저널에 기록된 평가 결과 수")
+                .register(meterRegistry);
+        this.applied = Counter.builder("ai.intake.applied")
+                .description("DB에 반영된 평가 결과 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("ai.intake.failed")
+                .description("검증 오류로 반영하지 않은 평가 결과 수")
+                .register(meterRegistry);
+        this.retried = Counter.builder("ai.intake.retried")
+                .description("일시적 오류로 반영을 다시 시도한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("ai.intake.lag", pending, Map::size)
+                .description("기록되었지만 아직 반영되지 않은 평가 결과 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.intake.lag.seconds", this, EvaluationIntakeJournal::oldestPendingAgeSeconds)
+                .description("가장 오래 반영을 기다린 평가 결과의 대기 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 체크포인트 이후의 기록을 다시 반영하고 append 용 파일을 연다
+     */
+    @PostConstruct
+    void open() throws IOException {
+        Files.createDirectories(journalFile.getParent());
+        checkpointSeq = readCheckpoint();
+
+        Map<Long, EvaluationResultRequestDto> unapplied = new TreeMap<>();
+        long maxSeq = checkpointSeq;
+        if (Files.exists(journalFile)) {
+            try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int tab = line.indexOf('\t');
+                    try {
+                        long seq = Long.parseLong(line.substring(0, tab));
+                        maxSeq = Math.max(maxSeq, seq);
+                        if (seq > checkpointSeq) {
+                            unapplied.put(seq, objectMapper.readValue(line.substring(tab + 1), EvaluationResultRequestDto.class));
+                        }
+                    } catch (Exception e) {
+                        // 기록 도중 종료되어 잘린 마지막 줄 등
+                        log.warn("평가 결과 저널의 손상된 줄을 건너뜀: {}", e.getMessage());
+                    }
+                }
+            }
+        }
+        lastSeq.set(maxSeq);
+        writtenSeq = maxSeq;
+        syncedSeq = maxSeq;
+        channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+        if (!unapplied.isEmpty()) {
+            log.info("평가 결과 저널 재반영 - {}건 (체크포인트: {})", unapplied.size(), checkpointSeq);
+        }
+        capacity = new Semaphore(maxPending - unapplied.size());
+        long now = System.currentTimeMillis();
+        unapplied.forEach((seq, result) -> {
+            pending.put(seq, now);
+            dispatch(seq, result);
+        });
+    }
+
+    /**
+     * 평가 결과를 저널에 기록하고 소비자에 전달 (DB 반영을 기다리지 않음)
+     *
+     * @return 저널 순번
+     * @throws IntakeBacklogFullException 반영 대기 건수가 max-pending 에 도달한 상태가 append-wait-ms 동안 이어진 경우
+     */
+    public long append(EvaluationResultRequestDto result) throws IOException {
+        applicationService.validateEvaluationResult(result);
+        byte[] payload = objectMapper.writeValueAsBytes(result);
+        try {
+            if (!capacity.tryAcquire(appendWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new IntakeBacklogFullException("평가 결과 반영 대기 건수가 한도(" + maxPending + ")에 도달했습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("평가 결과 저널 대기 중 중단되었습니다.");
+        }
+
+        long seq;
+        try {
+            seq = write(payload);
+        } catch (IOException | RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+        if (fsync) {
+            try {
+                awaitDurable(seq);
+            } catch (IOException e) {
+                // 접수 실패로 응답하므로 체크포인트가 이 순번에 멈추지 않게 한다 (AI 서버가 다시 전송)
+                complete(seq);
+                throw e;
+            }
+        }
+        appended.increment();
+        dispatch(seq, result);
+        return seq;
+    }
+
+    private long write(byte[] payload) throws IOException {
+        long seq;
+        synchronized (writeLock) {
+            seq = lastSeq.incrementAndGet();
+            byte[] prefix = (seq + "\t").getBytes(StandardCharsets.US_ASCII);
+            ByteBuffer buffer = ByteBuffer.allocate(prefix.length + payload.length + 1)
+                    .put(prefix).put(payload).put((byte) '\n')
+                    .flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            writtenSeq = seq;
+            pending.put(seq, System.currentTimeMillis());
+        }
+        return seq;
+    }
+
+    /**
+     * seq 까지 디스크에 반영될 때까지 대기 (그룹 커밋)
+     * fsync 중인 요청이 없으면 직접 그때까지 쓴 기록 전체를 fsync 하고, 있으면 끝나기를 기다렸다가 다시 확인한다.
+     */
+    private void awaitDurable(long seq) throws IOException {
+        synchronized (syncLock) {
+            while (syncedSeq < seq) {
+                if (!syncing) {
+                    syncing = true;
+                    break;
+                }
+                try {
+                    syncLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("평가 결과 저널 fsync 대기 중 중단되었습니다.");
+                }
+            }
+            if (syncedSeq >= seq) {
+                return;
+            }
+        }
+
+        long target = writtenSeq; // 자기 순번은 이미 썼으므로 target >= seq
+        boolean synced = false;
+        try {
+            channel.force(false);
+            synced = true;
+        } finally {
+            synchronized (syncLock) {
+                syncing = false;
+                if (synced) {
+                    syncedSeq = Math.max(syncedSeq, target);
+                }
+                syncLock.notifyAll();
+            }
+        }
+    }
+
+    private void dispatch(long seq, EvaluationResultRequestDto result) {
+        int stripe = Math.floorMod(result.getApplicationId().hashCode(), consumers.length);
+        consumers[stripe].execute(() -> apply(seq, result));
+    }
+
+    /**
+     * 저널 항목 반영
+     * 검증 오류는 반영하지 않고 끝내며, 그 밖의 오류(DB 장애 등)는 백오프하며 반영될 때까지 재시도한다.
+     * 재시도 중에는 pending 에 남아 체크포인트가 이 순번을 넘지 않으므로, 재시작해도 다시 반영된다.
+     */
+    private void apply(long seq, EvaluationResultRequestDto result) {
+        long backoffMs = retryBaseMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                applicationService.processEvaluationResult(result);
+                applied.increment();
+                complete(seq);
+                return;
+            } catch (IllegalArgumentException e) {
+                failed.increment();
+                log.warn("평가 결과 반영 불가 - 순번: {}, Application ID: {}, 사유: {}", seq, result.getApplicationId(), e.getMessage());
+                complete(seq);
+                return;
+            } catch (Exception e) {
+                retried.increment();
+                if (attempt == 1 || backoffMs >= retryMaxMs) {
+                    log.error("평가 결과 반영 실패, {}ms 후 재시도 - 순번: {}, Application ID: {}, 시도: {}",
+                            backoffMs, seq, result.getApplicationId(), attempt, e);
+                }
+            }
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                // 종료 중: 체크포인트에 포함되지 않으므로 재시작 시 다시 반영된다
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoffMs = Math.min(backoffMs * 2, retryMaxMs);
+        }
+    }
+
+    private void complete(long seq) {
+        if (pending.remove(seq) != null) {
+            capacity.release();
+        }
+    }
+
+    /**
+     * 연속으로 반영된 마지막 순번을 체크포인트로 저장하고, 저널 파일이 compact-bytes 를 넘으면
+     * 체크포인트 이후 기록만 남긴 새 파일로 교체한다 (밀린 항목이 있어도 정리된다).
+     */
+    @Scheduled(fixedDelayString = "${ai.intake.checkpoint-interval-ms:1000}")
+    public void checkpoint() {
+        try {
+            synchronized (writeLock) {
+                Map.Entry<Long, Long> oldest = pending.firstEntry();
+                long appliedSeq = oldest != null ? oldest.getKey() - 1 : lastSeq.get();
+                if (appliedSeq != checkpointSeq) {
+                    writeCheckpoint(appliedSeq);
+                    checkpointSeq = appliedSeq;
+                }
+                if (channel.size() >= compactBytes) {
+                    compact();
+                }
+            }
+        } catch (IOException e) {
+            log.error("평가 결과 저널 체크포인트 저장 실패", e);
+        }
+    }
+
+    /**
+     * 체크포인트 이후 기록만 새 파일에 옮겨 쓰고 원자적으로 교체 (writeLock 안에서 호출)
+     * 진행 중인 fsync 가 끝나기를 기다린 뒤 교체하고, 새 파일은 fsync 된 상태이므로 쓴 순번까지 반영된 것으로 본다.
+     */
+    private void compact() throws IOException {
+        synchronized (syncLock) {
+            while (syncing) {
+                try {
+                    syncLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("평가 결과 저널 정리 대기 중 중단되었습니다.");
+                }
+            }
+            syncing = true;
+        }
+        boolean compacted = false;
+        try {
+            Path temp = journalFile.resolveSibling(journalFile.getFileName() + ".compact");
+            int kept = 0;
+            try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8);
+                 BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int tab = line.indexOf('\t');
+                    try {
+                        if (Long.parseLong(line.substring(0, tab)) > checkpointSeq) {
+                            writer.write(line);
+                            writer.newLine();
+                            kept++;
+                        }
+                    } catch (RuntimeException e) {
+                        // 잘린 줄 등은 옮기지 않음
+                    }
+                }
+            }
+            try (FileChannel tempChannel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                tempChannel.force(true);
+            }
+            Files.move(temp, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            FileChannel previous = channel;
+            channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            previous.close();
+            compacted = true;
+            log.info("평가 결과 저널 정리 - 체크포인트: {}, 남은 기록: {}건", checkpointSeq, kept);
+        } finally {
+            synchronized (syncLock) {
+                syncing = false;
+                if (compacted) {
+                    syncedSeq = Math.max(syncedSeq, writtenSeq);
+                }
+                syncLock.notifyAll();
+            }
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        for (ExecutorService consumer : consumers) {
+            consumer.shutdown();
+        }
+        try {
+            for (ExecutorService consumer : consumers) {
+                if (!consumer.awaitTermination(10, TimeUnit.SECONDS)) {
+                    consumer.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        checkpoint();
+        channel.close();
+    }
+
+    private double oldestPendingAgeSeconds() {
+        Map.Entry<Long, Long> oldest = pending.firstEntry();
+        return oldest == null ? 0 : (System.currentTimeMillis() - oldest.getValue()) / 1000.0;
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        return Long.parseLong(Files.readString(checkpointFile, StandardCharsets.US_ASCII).trim());
+    }
+
+    private void writeCheckpoint(long seq) throws IOException {
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        Files.writeString(temp, Long.toString(seq), StandardCharsets.US_ASCII);
+        Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,117 @@
+package com.jangyeonguk.backend.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jangyeonguk.backend.dto.evaluation.LeaderboardResponseDto;
+import com.jangyeonguk.backend.repository.EvaluationResultWriter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공고별 메모리 순위표 Service
+ * 공고를 처음 조회할 때(기동 직후에는 전체 공고를 미리) DB에서 총점을 적재하고, 이후에는 평가 결과 저장 커밋마다 증분 갱신하여
+ * 순위/백분위/상위 N명/점수 구간 인원을 MySQL 조회 없이 응답한다.
+ */
+@Slf4j
+@Service
+public class EvaluationLeaderboardService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, PostingLeaderboard> leaderboards = new ConcurrentHashMap<>();
+
+    public EvaluationLeaderboardService(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("evaluation.leaderboard.postings", leaderboards, Map::size)
+                .description("메모리에 적재된 공고 순위표 수")
+                .register(meterRegistry);
+        Gauge.builder("evaluation.leaderboard.entries", leaderboards,
+                        boards -> boards.values().stream().mapToInt(PostingLeaderboard::size).sum())
+                .description("메모리 순위표에 적재된 지원서 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 평가 결과가 있는 모든 공고의 순위표 적재
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Long> jobPostingIds = jdbcTemplate.queryForList("SELECT DISTINCT job_posting_id FROM evaluation_results", Long.class);
+        jobPostingIds.forEach(this::leaderboard);
+        log.info("공고 순위표 적재 완료 - 공고 {}개", jobPostingIds.size());
+    }
+
+    /**
+     * 평가 결과 저장 커밋 이후 순위표 갱신 (아직 적재되지 않은 공고는 처음 조회할 때 DB에서 읽음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEvaluationResultsWritten(EvaluationResultsWrittenEvent event) {
+        for (EvaluationResultWriter.WrittenScore result : event.results()) {
+            // 적재 중인 공고는 적재가 끝난 뒤에 반영된다 (같은 키의 compute 는 순차 실행)
+            leaderboards.computeIfPresent(result.jobPostingId(), (id, leaderboard) -> {
+                leaderboard.put(result.applicationId(), result.totalScore());
+                return leaderboard;
+            });
+        }
+    }
+
+    /**
+     * 배점 비중 변경으로 총점이 다시 계산된 공고는 순위표를 버리고 다음 조회 때 다시 적재
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobPostingRescored(JobPostingRescoredEvent event) {
+        leaderboards.remove(event.jobPostingId());
+    }
+
+    /**
+     * 지원서의 순위/백분위와 상위 limit 명
+     */
+    public LeaderboardResponseDto getLeaderboard(Long jobPostingId, Long applicationId, int offset, int limit) {
+        PostingLeaderboard leaderboard = leaderboard(jobPostingId);
+        LeaderboardResponseDto.LeaderboardResponseDtoBuilder response = LeaderboardResponseDto.builder()
+                .jobPostingId(jobPostingId)
+                .totalCount(leaderboard.size())
+                .top(leaderboard.top(Math.max(0, offset), Math.max(0, limit)));
+        if (applicationId != null) {
+            long rank = leaderboard.rank(applicationId)
+                    .orElseThrow(() -> new IllegalArgumentException("평가 결과가 없는 지원서입니다: " + applicationId));
+            response.applicationId(applicationId)
+                    .score((int) leaderboard.score(applicationId).getAsLong())
+                    .rank(rank)
+                    .percentile(leaderboard.percentile(applicationId));
+        }
+        return response.build();
+    }
+
+    /**
+     * 점수가 min 이상 max 이하인 지원서 수
+     */
+    public long countBetween(Long jobPostingId, int min, int max) {
+        return leaderboard(jobPostingId).countBetween(min, max);
+    }
+
+    public PostingLeaderboard leaderboard(Long jobPostingId) {
+        return leaderboards.computeIfAbsent(jobPostingId, this::load);
+    }
+
+    private PostingLeaderboard load(Long jobPostingId) {
+        PostingLeaderboard leaderboard = new PostingLeaderboard();
+        jdbcTemplate.query("SELECT application_id, total_score FROM evaluation_results WHERE job_posting_id = ? ORDER BY id",
+                rs -> {
+                    leaderboard.put(rs.getLong("application_id"), rs.getInt("total_score"));
+                }, jobPostingId);
+        return leaderboard;
+    }
+}
@@ -0,0 +1,135 @@
+package com.jangyeonguk.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jangyeonguk.backend.domain.CoverLetterQuestionAnswer;
+import com.jangyeonguk.backend.domain.ResumeItemAnswer;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultRequestDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * AI 평가 결과 캐시
+ * 정규화한 답변 내용과 공고 루브릭 버전으로 만든 키에 평가 결과를 보관하고, 크기를 넘으면 가장 오래 쓰이지 않은 항목부터 제거한다.
+ * 같은 답변이 같은 루브릭으로 다시 들어오면 AI 호출 없이 저장된 결과를 재사용한다.
+ */
+@Component
+public class EvaluationResultCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, EvaluationResultRequestDto> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public EvaluationResultCache(@Value("${ai.cache.max-entries:10000}") int maxEntries,
+                                 MeterRegistry meterRegistry) {
+        this.hits = Counter.builder("ai.evaluation.cache.hits")
+                .description("AI 호출 없이 재사용된 평가 결과 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("ai.evaluation.cache.misses")
+                .description("캐시에 없어 AI로 전송된 지원서 수")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("ai.evaluation.cache.evictions")
+                .description("용량 초과로 제거된 캐시 항목 수")
+                .register(meterRegistry);
+
+        // accessOrder = true: get 할 때마다 맨 뒤로 이동하므로 맨 앞이 가장 오래 쓰이지 않은 항목
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, EvaluationResultRequestDto> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        Gauge.builder("ai.evaluation.cache.size", this, EvaluationResultCache::size)
+                .description("캐시된 평가 결과 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.evaluation.cache.hit.ratio", this, EvaluationResultCache::hitRatio)
+                .description("캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 (적중/미스 집계 포함)
+     */
+    public Optional<EvaluationResultRequestDto> get(String contentHash) {
+        EvaluationResultRequestDto cached;
+        synchronized (entries) {
+            cached = entries.get(contentHash);
+        }
+        (cached != null ? hits : misses).increment();
+        return Optional.ofNullable(cached);
+    }
+
+    public void put(String contentHash, EvaluationResultRequestDto result) {
+        synchronized (entries) {
+            entries.put(contentHash, result);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    /**
+     * 답변 내용 해시 (항목 ID 순으로 정렬하고 공백/유니코드를 정규화하여 계산)
+     */
+    public static String contentHash(String rubricVersion,
+                                     List<ResumeItemAnswer> resumeAnswers,
+                                     List<CoverLetterQuestionAnswer> coverLetterAnswers) {
+        StringBuilder content = new StringBuilder("rubric:").append(rubricVersion).append('\n');
+        resumeAnswers.stream()
+                .sorted(Comparator.comparing(answer -> answer.getResumeItem().getId()))
+                .forEach(answer -> content.append("R").append(answer.getResumeItem().getId()).append('\u0000')
+                        .append(normalize(answer.getResumeContent())).append('\n'));
+        coverLetterAnswers.stream()
+                .sorted(Comparator.comparing(answer -> answer.getCoverLetterQuestion().getId()))
+                .forEach(answer -> content.append("C").append(answer.getCoverLetterQuestion().getId()).append('\u0000')
+                        .append(normalize(answer.getAnswerContent())).append('\n'));
+        return sha256(content.toString());
+    }
+
+    public static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(Normalizer.normalize(text, Normalizer.Form.NFC)).replaceAll(" ").trim();
+    }
+}
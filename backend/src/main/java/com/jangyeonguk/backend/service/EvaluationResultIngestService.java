@@ -0,0 +1,121 @@
+package com.jangyeonguk.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultBatchResponseDto;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultRequestDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 평가 결과 일괄 수신 서비스
+ * NDJSON 본문을 한 줄씩 읽어 chunk-size 건마다 하나의 트랜잭션으로 저장한다 (본문 전체를 메모리에 올리지 않음).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EvaluationResultIngestService {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILED = "FAILED";
+
+    private final ApplicationService applicationService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai.ingest.chunk-size:200}")
+    private int chunkSize;
+
+    public EvaluationResultBatchResponseDto ingest(InputStream body) throws IOException {
+        EvaluationResultBatchResponseDto response = new EvaluationResultBatchResponseDto();
+        List<EvaluationResultRequestDto> chunk = new ArrayList<>(chunkSize);
+        List<EvaluationResultBatchResponseDto.ItemStatus> chunkItems = new ArrayList<>(chunkSize);
+
+        try (MappingIterator<EvaluationResultRequestDto> iterator =
+                     objectMapper.readerFor(EvaluationResultRequestDto.class).readValues(body)) {
+            int line = 0;
+            while (true) {
+                EvaluationResultRequestDto result;
+                try {
+                    if (!iterator.hasNextValue()) {
+                        break;
+                    }
+                    line++;
+                    result = iterator.nextValue();
+                } catch (JsonParseException e) {
+                    // 깨진 JSON 이후로는 줄 경계를 신뢰할 수 없으므로 여기서 중단
+                    response.getItems().add(new EvaluationResultBatchResponseDto.ItemStatus(line, null, FAILED,
+                            "JSON 형식이 올바르지 않아 이후 줄은 처리하지 않았습니다: " + e.getOriginalMessage()));
+                    break;
+                } catch (JsonMappingException e) {
+                    // 필드 타입 오류 등은 해당 줄만 실패 처리하고 다음 줄을 계속 읽는다
+                    response.getItems().add(new EvaluationResultBatchResponseDto.ItemStatus(line, null, FAILED,
+                            "평가 결과 형식이 올바르지 않습니다: " + e.getOriginalMessage()));
+                    continue;
+                }
+
+                // 반영할 수 없는 결과는 해당 줄만 실패 처리하고 chunk에 넣지 않는다 (chunk 전체가 롤백되지 않도록)
+                try {
+                    applicationService.validateEvaluationResult(result);
+                } catch (IllegalArgumentException e) {
+                    response.getItems().add(new EvaluationResultBatchResponseDto.ItemStatus(line, result.getApplicationId(), FAILED, e.getMessage()));
+                    continue;
+                }
+                chunk.add(result);
+                chunkItems.add(new EvaluationResultBatchResponseDto.ItemStatus(line, result.getApplicationId(), SUCCESS, null));
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, chunkItems, response);
+                }
+            }
+        }
+        flush(chunk, chunkItems, response);
+
+        response.getItems().sort((a, b) -> Integer.compare(a.getLine(), b.getLine()));
+        response.setReceived(response.getItems().size());
+        response.setSucceeded((int) response.getItems().stream().filter(item -> SUCCESS.equals(item.getStatus())).count());
+        response.setFailed(response.getReceived() - response.getSucceeded());
+        log.info("평가 결과 일괄 수신 - 수신 {}건, 저장 {}건, 실패 {}건", response.getReceived(), response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+    /**
+     * 모인 결과를 하나의 트랜잭션으로 저장하고 항목별 상태 기록
+     */
+    private void flush(List<EvaluationResultRequestDto> chunk,
+                       List<EvaluationResultBatchResponseDto.ItemStatus> chunkItems,
+                       EvaluationResultBatchResponseDto response) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, String> failures = applicationService.processEvaluationResults(chunk);
+            chunkItems.forEach(item -> {
+                String failure = failures.get(item.getApplicationId());
+                if (failure != null) {
+                    item.setStatus(FAILED);
+                    item.setMessage(failure);
+                }
+            });
+        } catch (Exception e) {
+            log.error("평가 결과 chunk 저장 실패 - {}건", chunk.size(), e);
+            chunkItems.forEach(item -> {
+                item.setStatus(FAILED);
+                item.setMessage("평가 결과 저장에 실패했습니다: " + e.getMessage());
+            });
+        }
+        response.getItems().addAll(chunkItems);
+        chunk.clear();
+        chunkItems.clear();
+    }
+}
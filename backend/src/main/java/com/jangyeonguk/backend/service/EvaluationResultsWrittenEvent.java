@@ -0,0 +1,11 @@
+package com.jangyeonguk.backend.service;
+
+import java.util.List;
+
+import com.jangyeonguk.backend.repository.EvaluationResultWriter;
+
+/**
+ * 평가 결과 저장 이벤트 (커밋 이후 순위표 등 메모리 집계를 갱신하는 용도)
+ */
+public record EvaluationResultsWrittenEvent(List<EvaluationResultWriter.WrittenScore> results) {
+}
@@ -0,0 +1,250 @@
+package com.jangyeonguk.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jangyeonguk.backend.domain.JobPosting;
+import com.jangyeonguk.backend.domain.PostingScoreStatistics;
+import com.jangyeonguk.backend.dto.evaluation.ScoreStatisticsResponseDto;
+import com.jangyeonguk.backend.repository.EvaluationResultWriter;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+import com.jangyeonguk.backend.repository.PostingScoreStatisticsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공고별 점수 통계 Service
+ * 총점/이력서 항목 점수 분포를 메모리에 두고 평가 결과 저장 커밋마다 증분 갱신한다.
+ * 지원서별로 반영한 점수를 함께 들고 있어, 갱신은 지원서 단위 교체(이전에 반영한 점수를 빼고 새 점수를 더함)로 처리한다.
+ * 적재 직후 이미 적재에 포함된 결과의 이벤트가 도착해도 같은 점수로 교체될 뿐이라 중복 집계되지 않는다.
+ * 변경된 공고는 주기적으로 posting_score_statistics 에 체크포인트하며, 다시 적재할 때 결과 수/점수 합이 DB와 같으면
+ * 체크포인트로 복원하고 다르면 그 공고만 재집계한다 (검증 쿼리는 (job_posting_id, score) 인덱스만 읽음).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EvaluationStatisticsService {
+
+    private static final TypeReference<Map<Long, long[]>> APPLICATION_SCORES = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobPostingRepository jobPostingRepository;
+    private final PostingScoreStatisticsRepository postingScoreStatisticsRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, PostingStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * 공고 한 개의 점수 분포 (동기화는 이 객체 단위)
+     */
+    private static final class PostingStatistics {
+        private final ScoreHistogram total = new ScoreHistogram();
+        private final Map<Long, ScoreHistogram> resumeItems = new HashMap<>();
+        private final Map<Long, Integer> totalScores = new HashMap<>(); // 지원서 ID → 반영한 총점
+        private final Map<Long, Map<Long, Integer>> itemScores = new HashMap<>(); // 지원서 ID → 반영한 항목 점수
+        private boolean dirty;
+
+        /**
+         * 지원서의 점수를 교체 (같은 점수로 다시 호출해도 분포가 바뀌지 않음)
+         */
+        private synchronized void apply(EvaluationResultWriter.WrittenScore result) {
+            replace(result.applicationId(), result.totalScore(), result.resumeItemScores());
+            dirty = true;
+        }
+
+        private void replace(Long applicationId, int totalScore, Map<Long, Integer> resumeItemScores) {
+            Integer previousTotal = totalScores.put(applicationId, totalScore);
+            if (previousTotal != null) {
+                total.remove(previousTotal);
+            }
+            total.add(totalScore);
+
+            Map<Long, Integer> previousItems = itemScores.remove(applicationId);
+            if (previousItems != null) {
+                previousItems.forEach((resumeItemId, score) -> resumeItems.get(resumeItemId).remove(score));
+            }
+            if (!resumeItemScores.isEmpty()) {
+                itemScores.put(applicationId, new HashMap<>(resumeItemScores));
+                resumeItemScores.forEach((resumeItemId, score) ->
+                        resumeItems.computeIfAbsent(resumeItemId, id -> new ScoreHistogram()).add(score));
+            }
+        }
+    }
+
+    /**
+     * 평가 결과 저장 커밋 이후 통계 갱신 (아직 적재되지 않은 공고는 처음 조회할 때 적재)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEvaluationResultsWritten(EvaluationResultsWrittenEvent event) {
+        for (EvaluationResultWriter.WrittenScore result : event.results()) {
+            statistics.computeIfPresent(result.jobPostingId(), (id, posting) -> {
+                posting.apply(result);
+                return posting;
+            });
+        }
+    }
+
+    /**
+     * 총점이 다시 계산된 공고는 다음 조회 때 재적재 (점수 합이 바뀌므로 체크포인트도 사용되지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobPostingRescored(JobPostingRescoredEvent event) {
+        statistics.remove(event.jobPostingId());
+    }
+
+    /**
+     * 공고 점수 통계 (평균/표준편차/분위수/합격률)
+     */
+    public ScoreStatisticsResponseDto getStatistics(Long jobPostingId) {
+        JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + jobPostingId));
+        PostingStatistics posting = statistics.computeIfAbsent(jobPostingId, this::load);
+        synchronized (posting) {
+            return ScoreStatisticsResponseDto.from(jobPostingId, jobPosting.getPassingScore(), posting.total, new TreeMap<>(posting.resumeItems));
+        }
+    }
+
+    /**
+     * 변경된 공고 통계 체크포인트
+     */
+    @Scheduled(fixedDelayString = "${evaluation.statistics.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        List<PostingScoreStatistics> checkpoints = new ArrayList<>();
+        statistics.forEach((jobPostingId, posting) -> {
+            synchronized (posting) {
+                if (!posting.dirty) {
+                    return;
+                }
+                try {
+                    checkpoints.add(toCheckpoint(jobPostingId, posting));
+                    posting.dirty = false;
+                } catch (JsonProcessingException e) {
+                    log.error("점수 통계 체크포인트 직렬화 실패 - JobPosting ID: {}", jobPostingId, e);
+                }
+            }
+        });
+        if (checkpoints.isEmpty()) {
+            return;
+        }
+        try {
+            postingScoreStatisticsRepository.saveAll(checkpoints);
+        } catch (Exception e) {
+            log.error("점수 통계 체크포인트 저장 실패 - 공고 {}개", checkpoints.size(), e);
+            checkpoints.forEach(checkpoint -> {
+                PostingStatistics posting = statistics.get(checkpoint.getJobPostingId());
+                if (posting != null) {
+                    synchronized (posting) {
+                        posting.dirty = true;
+                    }
+                }
+            });
+        }
+    }
+
+    private PostingScoreStatistics toCheckpoint(Long jobPostingId, PostingStatistics posting) throws JsonProcessingException {
+        Map<Long, long[]> itemCounts = new HashMap<>();
+        Map<Long, long[]> applicationScores = new HashMap<>();
+        posting.totalScores.forEach((applicationId, totalScore) -> {
+            Map<Long, Integer> items = posting.itemScores.getOrDefault(applicationId, Map.of());
+            long[] scores = new long[1 + items.size() * 2];
+            scores[0] = totalScore;
+            int i = 1;
+            for (Map.Entry<Long, Integer> item : items.entrySet()) {
+                scores[i++] = item.getKey();
+                scores[i++] = item.getValue();
+            }
+            applicationScores.put(applicationId, scores);
+        });
+        long itemScoreCount = 0;
+        long itemScoreSum = 0;
+        for (Map.Entry<Long, ScoreHistogram> entry : posting.resumeItems.entrySet()) {
+            itemCounts.put(entry.getKey(), entry.getValue().toCounts());
+            itemScoreCount += entry.getValue().count();
+            itemScoreSum += entry.getValue().sum();
+        }
+        return PostingScoreStatistics.builder()
+                .jobPostingId(jobPostingId)
+                .totalHistogram(objectMapper.writeValueAsString(posting.total.toCounts()))
+                .resumeItemHistograms(objectMapper.writeValueAsString(itemCounts))
+                .applicationScores(objectMapper.writeValueAsString(applicationScores))
+                .resultCount(posting.total.count())
+                .totalScoreSum(posting.total.sum())
+                .itemScoreCount(itemScoreCount)
+                .itemScoreSum(itemScoreSum)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private PostingStatistics load(Long jobPostingId) {
+        long[] results = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), COALESCE(SUM(GREATEST(total_score, 0)), 0) FROM evaluation_results WHERE job_posting_id = ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, jobPostingId);
+        long[] items = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), COALESCE(SUM(GREATEST(score, 0)), 0) FROM evaluation_resume_item_scores WHERE job_posting_id = ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, jobPostingId);
+
+        Optional<PostingScoreStatistics> checkpoint = postingScoreStatisticsRepository.findById(jobPostingId)
+                .filter(saved -> saved.getApplicationScores() != null)
+                .filter(saved -> saved.getResultCount() == results[0] && saved.getTotalScoreSum() == results[1]
+                        && saved.getItemScoreCount() == items[0] && saved.getItemScoreSum() == items[1]);
+        if (checkpoint.isPresent()) {
+            try {
+                return restore(checkpoint.get());
+            } catch (JsonProcessingException e) {
+                log.warn("점수 통계 체크포인트를 읽을 수 없어 재집계 - JobPosting ID: {}", jobPostingId, e);
+            }
+        }
+        return rebuild(jobPostingId);
+    }
+
+    /**
+     * 체크포인트의 지원서별 점수로 분포를 다시 쌓는다 (DB 를 다시 읽지 않음)
+     */
+    private PostingStatistics restore(PostingScoreStatistics checkpoint) throws JsonProcessingException {
+        PostingStatistics posting = new PostingStatistics();
+        objectMapper.readValue(checkpoint.getApplicationScores(), APPLICATION_SCORES).forEach((applicationId, scores) -> {
+            Map<Long, Integer> items = new HashMap<>();
+            for (int i = 1; i + 1 < scores.length; i += 2) {
+                items.put(scores[i], (int) scores[i + 1]);
+            }
+            posting.replace(applicationId, (int) scores[0], items);
+        });
+        return posting;
+    }
+
+    private PostingStatistics rebuild(Long jobPostingId) {
+        Map<Long, Integer> totalScores = new HashMap<>();
+        jdbcTemplate.query("SELECT application_id, total_score FROM evaluation_results WHERE job_posting_id = ?",
+                rs -> {
+                    totalScores.put(rs.getLong(1), rs.getInt(2));
+                }, jobPostingId);
+        Map<Long, Map<Long, Integer>> itemScores = new HashMap<>();
+        jdbcTemplate.query("SELECT application_id, resume_item_id, score FROM evaluation_resume_item_scores WHERE job_posting_id = ?",
+                rs -> {
+                    itemScores.computeIfAbsent(rs.getLong(1), id -> new HashMap<>()).put(rs.getLong(2), rs.getInt(3));
+                }, jobPostingId);
+        PostingStatistics posting = new PostingStatistics();
+        totalScores.forEach((applicationId, totalScore) ->
+                posting.replace(applicationId, totalScore, itemScores.getOrDefault(applicationId, Map.of())));
+        posting.dirty = true; // 다음 체크포인트에 저장
+        log.info("점수 통계 재집계 - JobPosting ID: {}, 결과 {}건", jobPostingId, posting.total.count());
+        return posting;
+    }
+}
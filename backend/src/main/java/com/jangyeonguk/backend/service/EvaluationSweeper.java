@@ -0,0 +1,218 @@
+package com.jangyeonguk.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jangyeonguk.backend.domain.AiDispatchOutbox;
+import com.jangyeonguk.backend.domain.ApplicationStatus;
+import com.jangyeonguk.backend.domain.DispatchStatus;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationSweepReportDto;
+import com.jangyeonguk.backend.repository.AiDispatchOutboxRepository;
+import com.jangyeonguk.backend.repository.ApplicationRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 평가 누락 지원서 복구 스위퍼
+ * 평가 전 상태로 stale-after-ms 이상 머물며 평가 결과가 없는 지원서를 (status, created_at) 인덱스로 키셋 조회하여
+ * 전송 대기열에 다시 넣는다. 실행당 최대 max-requeue-per-run 건만 복구하여 AI 서버 장애 직후 한꺼번에 몰리지 않게 한다.
+ * 한도에 걸려 중단하면 다음 실행이 키셋 커서를 이어받아 조회하고, 끝까지 조회하면 처음부터 다시 시작한다.
+ * 같은 지원서는 max-requeues-per-application 번까지만 다시 대기시켜, 계속 실패하는 지원서가 매 실행 한도를 차지하지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EvaluationSweeper {
+
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ApplicationRepository applicationRepository;
+    private final AiDispatchOutboxRepository aiDispatchOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.sweeper.stale-after-ms:1800000}")
+    private long staleAfterMs;
+
+    @Value("${ai.sweeper.page-size:500}")
+    private int pageSize;
+
+    @Value("${ai.sweeper.max-requeue-per-run:200}")
+    private int maxRequeuePerRun;
+
+    @Value("${ai.sweeper.max-requeues-per-application:3}")
+    private int maxRequeuesPerApplication;
+
+    private final AtomicReference<EvaluationSweepReportDto> lastReport = new AtomicReference<>();
+
+    // 실행 사이에 이어지는 키셋 커서 (sweep() 이 synchronized 이므로 별도 동기화 불필요)
+    private LocalDateTime cursorCreatedAt = KEYSET_START;
+    private Long cursorId = 0L;
+
+    @Scheduled(fixedDelayString = "${ai.sweeper.interval-ms:300000}", initialDelayString = "${ai.sweeper.initial-delay-ms:60000}")
+    public void scheduledSweep() {
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.error("평가 누락 지원서 복구 실패", e);
+        }
+    }
+
+    /**
+     * 마지막 복구 실행 결과
+     */
+    public Optional<EvaluationSweepReportDto> getLastReport() {
+        return Optional.ofNullable(lastReport.get());
+    }
+
+    /**
+     * 복구 1회 실행 (페이지마다 별도 트랜잭션)
+     */
+    public synchronized EvaluationSweepReportDto sweep() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime staleBefore = startedAt.minus(Duration.ofMillis(staleAfterMs));
+        EvaluationSweepReportDto report = EvaluationSweepReportDto.builder().startedAt(startedAt).build();
+
+        if (KEYSET_START.equals(cursorCreatedAt) && cursorId == 0L) {
+            // 새 조회 주기 시작 시 생성일시가 없는 기존 지원서를 이번 주기에 복구 대상이 되도록 채운다
+            Integer backfilled = transactionTemplate.execute(status -> applicationRepository.backfillMissingCreatedAt(
+                    ApplicationStatus.BEFORE_EVALUATION, staleBefore.minusSeconds(1)));
+            report.setBackfilledCreatedAt(backfilled == null ? 0 : backfilled);
+        }
+
+        boolean reachedEnd = false;
+        while (!report.isLimitReached()) {
+            LocalDateTime afterCreatedAt = cursorCreatedAt;
+            Long afterId = cursorId;
+            // 한도에 걸리기 전까지 실제로 처리한 후보만 반환 (커서는 처리한 마지막 후보까지만 전진)
+            List<ApplicationRepository.StuckApplication> processed = transactionTemplate.execute(status -> {
+                List<ApplicationRepository.StuckApplication> candidates = applicationRepository.findStuckAfter(
+                        ApplicationStatus.BEFORE_EVALUATION, staleBefore, afterCreatedAt, afterId, PageRequest.of(0, pageSize));
+                return candidates.subList(0, requeue(candidates, staleBefore, report));
+            });
+            if (processed.isEmpty()) {
+                reachedEnd = !report.isLimitReached();
+                break;
+            }
+
+            ApplicationRepository.StuckApplication last = processed.get(processed.size() - 1);
+            cursorCreatedAt = last.getCreatedAt();
+            cursorId = last.getApplicationId();
+            if (!report.isLimitReached() && processed.size() < pageSize) {
+                reachedEnd = true;
+                break;
+            }
+        }
+        if (reachedEnd) {
+            cursorCreatedAt = KEYSET_START;
+            cursorId = 0L;
+        }
+
+        report.setFinishedAt(LocalDateTime.now());
+        lastReport.set(report);
+        meterRegistry.counter("ai.sweeper.recovered").increment(report.getRecovered());
+        if (report.getRecovered() > 0 || report.isLimitReached()) {
+            log.warn("평가 누락 지원서 복구 - 대상 {}건, 신규 등록 {}건, 실패 재시도 {}건, 결과 미수신 재전송 {}건, 재시도 소진 {}건, 한도 도달: {}",
+                    report.getScanned(), report.getEnqueued(), report.getRequeuedFailed(), report.getRequeuedSent(),
+                    report.getSkippedExhausted(), report.isLimitReached());
+        }
+        return report;
+    }
+
+    /**
+     * 아웃박스 상태에 따라 신규 등록/재대기/건너뜀 결정
+     *
+     * @return 실행당 한도에 걸리기 전까지 처리한 후보 수
+     */
+    private int requeue(List<ApplicationRepository.StuckApplication> candidates, LocalDateTime staleBefore,
+                        EvaluationSweepReportDto report) {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        Map<Long, AiDispatchOutbox> outboxes = aiDispatchOutboxRepository.findByApplicationIdIn(
+                        candidates.stream().map(ApplicationRepository.StuckApplication::getApplicationId).toList())
+                .stream()
+                .collect(Collectors.toMap(AiDispatchOutbox::getApplicationId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AiDispatchOutbox> created = new ArrayList<>();
+        int processed = 0;
+        for (ApplicationRepository.StuckApplication candidate : candidates) {
+            if (report.getRecovered() >= maxRequeuePerRun) {
+                report.setLimitReached(true);
+                break;
+            }
+            processed++;
+            report.setScanned(report.getScanned() + 1);
+
+            if (Boolean.FALSE.equals(candidate.getAiAutomaticEvaluation())) {
+                report.setSkippedDisabled(report.getSkippedDisabled() + 1);
+                continue;
+            }
+
+            AiDispatchOutbox outbox = outboxes.get(candidate.getApplicationId());
+            if (outbox == null) {
+                created.add(AiDispatchOutbox.builder()
+                        .applicationId(candidate.getApplicationId())
+                        .jobPostingId(candidate.getJobPostingId())
+                        .evaluationDeadline(candidate.getEvaluationDeadline())
+                        .status(DispatchStatus.PENDING)
+                        .build());
+                report.setEnqueued(report.getEnqueued() + 1);
+            } else if (outbox.getStatus() == DispatchStatus.FAILED) {
+                if (requeueIfAllowed(outbox, now, report)) {
+                    report.setRequeuedFailed(report.getRequeuedFailed() + 1);
+                }
+            } else if (outbox.getStatus() == DispatchStatus.SENT
+                    && outbox.getSentAt() != null && outbox.getSentAt().isBefore(staleBefore)) {
+                // 전송 후 결과 콜백이 유실된 경우 (AI 서버는 applicationId 기준으로 중복 처리)
+                if (requeueIfAllowed(outbox, now, report)) {
+                    report.setRequeuedSent(report.getRequeuedSent() + 1);
+                }
+            } else {
+                report.setSkippedInProgress(report.getSkippedInProgress() + 1);
+            }
+        }
+        aiDispatchOutboxRepository.saveAll(created);
+        return processed;
+    }
+
+    /**
+     * 재대기 횟수 한도 안이면 전송 대기로 되돌림
+     */
+    private boolean requeueIfAllowed(AiDispatchOutbox outbox, LocalDateTime now, EvaluationSweepReportDto report) {
+        if (outbox.getSweepRequeues() >= maxRequeuesPerApplication) {
+            report.setSkippedExhausted(report.getSkippedExhausted() + 1);
+            return false;
+        }
+        resetToPending(outbox, now);
+        return true;
+    }
+
+    /**
+     * 전송 시도 횟수는 유지한다 (max-attempts 를 이미 넘긴 행은 재대기당 한 번만 더 시도하고 다시 FAILED 가 된다)
+     */
+    private void resetToPending(AiDispatchOutbox outbox, LocalDateTime now) {
+        outbox.setStatus(DispatchStatus.PENDING);
+        outbox.setSweepRequeues(outbox.getSweepRequeues() + 1);
+        outbox.setNextAttemptAt(now);
+        outbox.setClaimedAt(null);
+        outbox.setSentAt(null);
+        outbox.setLastError(null);
+    }
+}
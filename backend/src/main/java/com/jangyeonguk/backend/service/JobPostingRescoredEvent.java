@@ -0,0 +1,7 @@
+package com.jangyeonguk.backend.service;
+
+/**
+ * 공고 총점 재계산 이벤트 (배점 비중 변경 커밋 이후 메모리 집계를 다시 적재하는 용도)
+ */
+public record JobPostingRescoredEvent(Long jobPostingId) {
+}
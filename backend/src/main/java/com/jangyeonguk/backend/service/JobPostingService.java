@@ -1,14 +1,19 @@
 package com.jangyeonguk.backend.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.jangyeonguk.backend.domain.ApplicationStatus;
 import com.jangyeonguk.backend.domain.Company;
 import com.jangyeonguk.backend.domain.CoverLetterQuestion;
 import com.jangyeonguk.backend.domain.CoverLetterQuestionCriterion;
@@ -17,14 +22,17 @@ import com.jangyeonguk.backend.domain.JobPosting;
 import com.jangyeonguk.backend.domain.PostingStatus;
 import com.jangyeonguk.backend.domain.ResumeItem;
 import com.jangyeonguk.backend.domain.ResumeItemCriterion;
+import com.jangyeonguk.backend.domain.ScoringRubric;
 import com.jangyeonguk.backend.dto.jobposting.JobPostingCreateRequestDto;
 import com.jangyeonguk.backend.dto.jobposting.JobPostingResponseDto;
 import com.jangyeonguk.backend.dto.resume.ResumeItemCreateRequestDto;
 import com.jangyeonguk.backend.dto.coverletter.CoverLetterQuestionCreateRequestDto;
+import com.jangyeonguk.backend.repository.ApplicationRepository;
 import com.jangyeonguk.backend.repository.CompanyRepository;
 import com.jangyeonguk.backend.repository.CoverLetterQuestionCriterionDetailRepository;
 import com.jangyeonguk.backend.repository.CoverLetterQuestionCriterionRepository;
 import com.jangyeonguk.backend.repository.CoverLetterQuestionRepository;
+import com.jangyeonguk.backend.repository.EvaluationResultWriter;
 import com.jangyeonguk.backend.repository.JobPostingRepository;
 import com.jangyeonguk.backend.repository.ResumeItemCriterionRepository;
 import com.jangyeonguk.backend.repository.ResumeItemRepository;
@@ -44,6 +52,9 @@ public class JobPostingService {
     private final JobPostingRepository jobPostingRepository;
     private final CompanyRepository companyRepository;
     private final AIScoringService aiScoringService;
+    private final EvaluationResultWriter evaluationResultWriter;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 채용공고 등록
@@ -154,7 +165,7 @@ public class JobPostingService {
         jobPostingRepository.save(savedJobPosting);
 
         // JobPostingResponseDto 생성
-        JobPostingResponseDto response = JobPostingResponseDto.from(savedJobPosting);
+        JobPostingResponseDto response = JobPostingResponseDto.from(savedJobPosting, Map.of()); // 새 공고에는 지원서가 없음
 
         // AI 평가 기준 학습
         aiScoringService.processJobPostingEvaluation(savedJobPosting);
@@ -170,41 +181,37 @@ public class JobPostingService {
         JobPosting jobPosting = jobPostingRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + id));
 
-        return JobPostingResponseDto.from(jobPosting);
+        return JobPostingResponseDto.from(jobPosting, countApplicationsByStatus(List.of(id)).getOrDefault(id, Map.of()));
     }
 
     /**
      * 채용공고 목록 조회
+     * 지원서 수는 집계 쿼리 1번으로 구하고, 회사/이력서 항목/자기소개서 질문은 default_batch_fetch_size 로 묶어서 로드된다.
      */
     public List<JobPostingResponseDto> getJobPostings() {
         List<JobPosting> jobPostings = jobPostingRepository.findAll();
+        Map<Long, Map<ApplicationStatus, Long>> statusCounts = countApplicationsByStatus(
+                jobPostings.stream().map(JobPosting::getId).toList());
         return jobPostings.stream()
-                .map(JobPostingResponseDto::from)
+                .map(jobPosting -> JobPostingResponseDto.from(jobPosting, statusCounts.getOrDefault(jobPosting.getId(), Map.of())))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 채용공고와 모든 지원서 데이터 조회 (통합 API)
+     * 공고 ID → 상태별 지원서 수 (지원서가 없는 공고는 결과에 없음)
      */
-    @Transactional
-    public JobPostingResponseDto getJobPostingWithApplications(Long id) {
-        JobPosting jobPosting = jobPostingRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + id));
-
-        // LAZY 로딩된 applications를 명시적으로 로드
-        jobPosting.getApplications().size();
-        
-        // 각 application의 관련 데이터도 로드하고 resumeQuantitativeScore 계산 및 저장
-        jobPosting.getApplications().forEach(application -> {
-            application.getResumeItemAnswers().size();
-            application.getCoverLetterQuestionAnswers().size();
-            application.getApplicant().getName(); // applicant 정보 로드
-            
-        });
-
-        return JobPostingResponseDto.fromWithApplications(jobPosting);
+    public Map<Long, Map<ApplicationStatus, Long>> countApplicationsByStatus(Collection<Long> jobPostingIds) {
+        Map<Long, Map<ApplicationStatus, Long>> counts = new HashMap<>();
+        if (jobPostingIds.isEmpty()) {
+            return counts;
+        }
+        for (ApplicationRepository.StatusCount count : applicationRepository.countByJobPostingIdInGroupByStatus(jobPostingIds)) {
+            counts.computeIfAbsent(count.getJobPostingId(), id -> new EnumMap<>(ApplicationStatus.class))
+                    .put(count.getStatus(), count.getApplicationCount());
+        }
+        return counts;
     }
-    
+
 
     /**
      * 채용공고 수정
@@ -214,6 +221,9 @@ public class JobPostingService {
         JobPosting jobPosting = jobPostingRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + id));
 
+        // 수정 전 채점 기준 (배점 비중/만점이 바뀐 경우에만 총점을 재계산하기 위함)
+        ScoringRubric previousRubric = evaluationResultWriter.loadScoringRubrics(Set.of(id)).get(id);
+
         // 기본 정보 업데이트
         jobPosting.setTitle(request.getTitle());
         jobPosting.setTeamDepartment(request.getTeamDepartment());
@@ -236,8 +246,21 @@ public class JobPostingService {
         // 상태 자동 업데이트
         jobPosting.setPostingStatus(determinePostingStatus(jobPosting, LocalDateTime.now()));
 
-        JobPosting updatedJobPosting = jobPostingRepository.save(jobPosting);
-        return JobPostingResponseDto.from(updatedJobPosting);
+        // 배점 비중을 JDBC 재계산에서 읽을 수 있도록 즉시 반영
+        JobPosting updatedJobPosting = jobPostingRepository.saveAndFlush(jobPosting);
+
+        // 배점 비중/만점이 바뀌었으면 저장된 원점수로 가중 총점 재계산 (커밋 이후 순위표도 다시 적재)
+        ScoringRubric rubric = evaluationResultWriter.loadScoringRubrics(Set.of(id)).get(id);
+        if (!rubric.hasSameFactors(previousRubric)) {
+            evaluationResultWriter.rescore(updatedJobPosting.getId());
+            eventPublisher.publishEvent(new JobPostingRescoredEvent(updatedJobPosting.getId()));
+        }
+
+        // 평가 마감일/AI 자동평가 여부를 평가 대기열에 반영
+        aiScoringService.syncEvaluationQueue(updatedJobPosting);
+
+        return JobPostingResponseDto.from(updatedJobPosting,
+                countApplicationsByStatus(List.of(updatedJobPosting.getId())).getOrDefault(updatedJobPosting.getId(), Map.of()));
     }
 
     /**
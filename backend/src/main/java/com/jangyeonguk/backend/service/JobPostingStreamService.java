@@ -0,0 +1,128 @@
+package com.jangyeonguk.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jangyeonguk.backend.domain.Application;
+import com.jangyeonguk.backend.domain.JobPosting;
+import com.jangyeonguk.backend.dto.application.ApplicationResponseDto;
+import com.jangyeonguk.backend.dto.jobposting.JobPostingResponseDto;
+import com.jangyeonguk.backend.repository.ApplicationRepository;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채용공고 + 지원서 전체 스트리밍 응답 Service
+ * 공고 정보를 먼저 쓰고, 지원서는 순방향 커서로 chunk-size 개씩 읽어 답변/평가 결과를 일괄 조회한 뒤 바로 JSON 으로 내보낸다.
+ * 묶음마다 영속성 컨텍스트를 비우므로 지원서 수와 무관하게 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+public class JobPostingStreamService {
+
+    private final JobPostingRepository jobPostingRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationService applicationService;
+    private final JobPostingService jobPostingService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+
+    public JobPostingStreamService(JobPostingRepository jobPostingRepository,
+                                   ApplicationRepository applicationRepository,
+                                   ApplicationService applicationService,
+                                   JobPostingService jobPostingService,
+                                   EntityManager entityManager,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${job-posting.stream.chunk-size:200}") int chunkSize) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.applicationRepository = applicationRepository;
+        this.applicationService = applicationService;
+        this.jobPostingService = jobPostingService;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 채용공고와 모든 지원서 데이터 스트리밍 (응답 형식은 JobPostingResponseDto 와 같음)
+     * 없는 공고는 첫 바이트를 쓰기 전에 IllegalArgumentException 으로 거절한다.
+     */
+    public StreamingResponseBody streamJobPostingWithApplications(Long id) {
+        if (!jobPostingRepository.existsById(id)) {
+            throw new IllegalArgumentException("존재하지 않는 채용공고입니다: " + id);
+        }
+        // 응답 본문은 요청 스레드가 아닌 비동기 스레드에서 쓰이므로 트랜잭션도 그 안에서 연다
+        return outputStream -> readOnlyTransaction.executeWithoutResult(status -> {
+            try {
+                write(id, outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void write(Long id, OutputStream outputStream) throws IOException {
+        JobPosting jobPosting = jobPostingRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + id));
+        JobPostingResponseDto header = JobPostingResponseDto.from(jobPosting,
+                jobPostingService.countApplicationsByStatus(List.of(id)).getOrDefault(id, Map.of()));
+
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream);
+             Stream<Application> applications = applicationRepository.streamByJobPostingId(id)) {
+            generator.writeStartObject();
+
+            // 공고 필드 (applications 는 아래에서 스트리밍)
+            ObjectNode fields = objectMapper.valueToTree(header);
+            fields.remove("applications");
+            for (Iterator<Map.Entry<String, JsonNode>> it = fields.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = it.next();
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+            generator.flush(); // 공고 정보는 바로 전송
+
+            generator.writeArrayFieldStart("applications");
+            List<Application> chunk = new ArrayList<>(chunkSize);
+            Iterator<Application> iterator = applications.iterator();
+            long written = 0;
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                    for (ApplicationResponseDto application : applicationService.toResponses(chunk)) {
+                        generator.writeObject(application);
+                    }
+                    written += chunk.size();
+                    generator.flush();
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            log.debug("채용공고 지원서 스트리밍 완료 - 공고 ID: {}, 지원서: {}건", id, written);
+        }
+    }
+}
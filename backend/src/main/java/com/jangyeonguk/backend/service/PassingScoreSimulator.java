@@ -0,0 +1,275 @@
+package com.jangyeonguk.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jangyeonguk.backend.domain.JobPosting;
+import com.jangyeonguk.backend.domain.ScoringRubric;
+import com.jangyeonguk.backend.dto.evaluation.PassingScoreSimulationRequestDto;
+import com.jangyeonguk.backend.dto.evaluation.PassingScoreSimulationResponseDto;
+import com.jangyeonguk.backend.repository.EvaluationResultWriter;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 합격기준점수/배점 비중 모의 계산 Service
+ * 공고별로 지원서 ID, 이력서/자기소개서 원점수, 저장된 총점을 기본형 배열로 캐시해 두고 시나리오마다 배열을 한 번 훑어 계산한다.
+ * 평가 결과 저장 커밋 시에는 저장된 원점수/총점을 캐시 배열에 반영하고(새 배열로 교체), 총점 재계산 커밋 시에만 버리고 다시 읽는다.
+ * 원점수가 없는 기존 결과(원점수 컬럼 추가 전 저장)는 배점 비중을 바꿔 계산할 수 없으므로 모의 계산 대상에서 제외한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PassingScoreSimulator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobPostingRepository jobPostingRepository;
+    private final EvaluationResultWriter evaluationResultWriter;
+
+    private final Map<Long, ScoreArrays> cache = new ConcurrentHashMap<>();
+
+    @Value("${evaluation.simulation.max-scenarios:100}")
+    private int maxScenarios;
+
+    @Value("${evaluation.simulation.max-delta-ids:1000}")
+    private int maxDeltaIds;
+
+    /**
+     * 공고 한 개의 점수 배열 (인덱스가 같은 원소끼리 한 지원서, 만들어진 뒤에는 수정하지 않음)
+     */
+    private record ScoreArrays(Map<Long, Integer> indexByApplicationId, long[] applicationIds, double[] resumeRawScores,
+                               double[] coverLetterRawScores, int[] totalScores, double resumeMaxScore, double coverLetterMaxScore) {
+
+        /**
+         * 저장된 결과를 반영한 새 배열 (기존 지원서는 같은 자리를 덮어쓰고, 처음 저장된 지원서는 뒤에 붙임)
+         */
+        ScoreArrays with(List<EvaluationResultWriter.WrittenScore> written) {
+            List<EvaluationResultWriter.WrittenScore> added = written.stream()
+                    .filter(score -> !indexByApplicationId.containsKey(score.applicationId()))
+                    .toList();
+            Map<Long, Integer> index = added.isEmpty() ? indexByApplicationId : new HashMap<>(indexByApplicationId);
+            int n = applicationIds.length + added.size();
+            long[] ids = Arrays.copyOf(applicationIds, n);
+            double[] resume = Arrays.copyOf(resumeRawScores, n);
+            double[] coverLetter = Arrays.copyOf(coverLetterRawScores, n);
+            int[] totals = Arrays.copyOf(totalScores, n);
+            int next = applicationIds.length;
+            for (EvaluationResultWriter.WrittenScore score : written) {
+                Integer i = index.get(score.applicationId());
+                if (i == null) {
+                    i = next++;
+                    index.put(score.applicationId(), i);
+                    ids[i] = score.applicationId();
+                }
+                resume[i] = score.resumeRawScore();
+                coverLetter[i] = score.coverLetterRawScore();
+                totals[i] = score.totalScore();
+            }
+            return new ScoreArrays(index, ids, resume, coverLetter, totals, resumeMaxScore, coverLetterMaxScore);
+        }
+    }
+
+    /**
+     * 캐시된 공고에만 저장된 점수를 반영 (캐시가 없으면 다음 요청에서 읽음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEvaluationResultsWritten(EvaluationResultsWrittenEvent event) {
+        event.results().stream()
+                .collect(Collectors.groupingBy(EvaluationResultWriter.WrittenScore::jobPostingId))
+                .forEach((jobPostingId, written) -> cache.computeIfPresent(jobPostingId, (id, arrays) -> arrays.with(written)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobPostingRescored(JobPostingRescoredEvent event) {
+        cache.remove(event.jobPostingId());
+    }
+
+    public PassingScoreSimulationResponseDto simulate(Long jobPostingId, PassingScoreSimulationRequestDto request) {
+        JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + jobPostingId));
+
+        List<Integer> passingScores = request.getPassingScores() == null || request.getPassingScores().isEmpty()
+                ? List.of(jobPosting.getPassingScore() != null ? jobPosting.getPassingScore() : 0)
+                : request.getPassingScores();
+        List<PassingScoreSimulationRequestDto.WeightSplit> weightSplits = request.getWeightSplits() == null || request.getWeightSplits().isEmpty()
+                ? List.of(new PassingScoreSimulationRequestDto.WeightSplit(jobPosting.getResumeScoreWeight(), jobPosting.getCoverLetterScoreWeight()))
+                : request.getWeightSplits();
+        if ((long) passingScores.size() * weightSplits.size() > maxScenarios) {
+            throw new IllegalArgumentException("시나리오는 최대 " + maxScenarios + "개까지 계산할 수 있습니다.");
+        }
+        int totalScore = totalScore(jobPosting);
+        for (PassingScoreSimulationRequestDto.WeightSplit split : weightSplits) {
+            validateWeightSplit(split, totalScore);
+        }
+
+        ScoreArrays arrays = cache.computeIfAbsent(jobPostingId, this::load);
+        int applicantCount = arrays.applicationIds().length;
+
+        // 현재 합격 여부 (저장된 총점, 현재 합격기준점수)
+        Integer currentPassingScore = jobPosting.getPassingScore();
+        boolean[] currentlyPassing = new boolean[applicantCount];
+        int currentPassCount = 0;
+        for (int i = 0; i < applicantCount; i++) {
+            currentlyPassing[i] = currentPassingScore != null && arrays.totalScores()[i] >= currentPassingScore;
+            if (currentlyPassing[i]) {
+                currentPassCount++;
+            }
+        }
+
+        List<PassingScoreSimulationResponseDto.Scenario> scenarios = new ArrayList<>();
+        for (PassingScoreSimulationRequestDto.WeightSplit split : weightSplits) {
+            int resumeWeight = split.getResumeScoreWeight() != null ? split.getResumeScoreWeight() : 0;
+            int coverLetterWeight = split.getCoverLetterScoreWeight() != null ? split.getCoverLetterScoreWeight() : 0;
+            int[] totals = weightedTotals(arrays, resumeWeight, coverLetterWeight);
+            int[] distribution = distribution(totals, totalScore);
+            for (Integer passingScore : passingScores) {
+                scenarios.add(scenario(arrays, totals, distribution, currentlyPassing,
+                        passingScore != null ? passingScore : 0, resumeWeight, coverLetterWeight));
+            }
+        }
+
+        return PassingScoreSimulationResponseDto.builder()
+                .jobPostingId(jobPostingId)
+                .applicantCount(applicantCount)
+                .currentPassingScore(currentPassingScore)
+                .currentPassCount(currentPassCount)
+                .scenarios(scenarios)
+                .build();
+    }
+
+    /**
+     * ScoringRubric.weightedTotal 과 같은 식으로 배점 비중만 바꿔 총점 계산
+     */
+    private int[] weightedTotals(ScoreArrays arrays, int resumeWeight, int coverLetterWeight) {
+        double resumeFactor = arrays.resumeMaxScore() > 0 ? resumeWeight / arrays.resumeMaxScore() : 0;
+        double coverLetterFactor = arrays.coverLetterMaxScore() > 0 ? coverLetterWeight / arrays.coverLetterMaxScore() : 0;
+        double[] resume = arrays.resumeRawScores();
+        double[] coverLetter = arrays.coverLetterRawScores();
+        int[] totals = new int[resume.length];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = (int) Math.round(resume[i] * resumeFactor + coverLetter[i] * coverLetterFactor);
+        }
+        return totals;
+    }
+
+    /**
+     * 공고 총점 (배점 비중 합계와 같음)
+     */
+    private int totalScore(JobPosting jobPosting) {
+        if (jobPosting.getTotalScore() != null) {
+            return jobPosting.getTotalScore();
+        }
+        return (jobPosting.getResumeScoreWeight() != null ? jobPosting.getResumeScoreWeight() : 0)
+                + (jobPosting.getCoverLetterScoreWeight() != null ? jobPosting.getCoverLetterScoreWeight() : 0);
+    }
+
+    /**
+     * 배점 비중은 0 이상이고 합계가 공고 총점과 같아야 한다 (분포 배열 크기가 총점으로 제한됨)
+     */
+    private void validateWeightSplit(PassingScoreSimulationRequestDto.WeightSplit split, int totalScore) {
+        int resumeWeight = split.getResumeScoreWeight() != null ? split.getResumeScoreWeight() : 0;
+        int coverLetterWeight = split.getCoverLetterScoreWeight() != null ? split.getCoverLetterScoreWeight() : 0;
+        if (resumeWeight < 0 || coverLetterWeight < 0) {
+            throw new IllegalArgumentException("배점 비중은 0 이상이어야 합니다.");
+        }
+        if ((long) resumeWeight + coverLetterWeight != totalScore) {
+            throw new IllegalArgumentException("배점 비중의 합은 공고 총점(" + totalScore + ")과 같아야 합니다: "
+                    + resumeWeight + " + " + coverLetterWeight);
+        }
+    }
+
+    /**
+     * 총점별 지원자 수 (0 ~ 공고 총점 구간, 범위를 벗어난 총점은 양 끝 구간에 넣음)
+     */
+    private int[] distribution(int[] totals, int totalScore) {
+        int[] distribution = new int[totals.length == 0 ? 0 : Math.max(0, totalScore) + 1];
+        for (int total : totals) {
+            distribution[Math.min(distribution.length - 1, Math.max(0, total))]++;
+        }
+        return distribution;
+    }
+
+    private PassingScoreSimulationResponseDto.Scenario scenario(ScoreArrays arrays, int[] totals, int[] distribution,
+                                                                boolean[] currentlyPassing, int passingScore,
+                                                                int resumeWeight, int coverLetterWeight) {
+        int passCount = 0;
+        int newlyPassingCount = 0;
+        int newlyFailingCount = 0;
+        List<Long> newlyPassing = new ArrayList<>();
+        List<Long> newlyFailing = new ArrayList<>();
+        for (int i = 0; i < totals.length; i++) {
+            boolean passing = totals[i] >= passingScore;
+            if (passing) {
+                passCount++;
+            }
+            if (passing && !currentlyPassing[i]) {
+                if (newlyPassingCount++ < maxDeltaIds) {
+                    newlyPassing.add(arrays.applicationIds()[i]);
+                }
+            } else if (!passing && currentlyPassing[i]) {
+                if (newlyFailingCount++ < maxDeltaIds) {
+                    newlyFailing.add(arrays.applicationIds()[i]);
+                }
+            }
+        }
+        return PassingScoreSimulationResponseDto.Scenario.builder()
+                .passingScore(passingScore)
+                .resumeScoreWeight(resumeWeight)
+                .coverLetterScoreWeight(coverLetterWeight)
+                .passCount(passCount)
+                .passRate(totals.length == 0 ? 0 : (double) passCount / totals.length)
+                .newlyPassingCount(newlyPassingCount)
+                .newlyFailingCount(newlyFailingCount)
+                .newlyPassingApplicationIds(newlyPassing)
+                .newlyFailingApplicationIds(newlyFailing)
+                .distribution(distribution)
+                .build();
+    }
+
+    private ScoreArrays load(Long jobPostingId) {
+        int expected = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM evaluation_results WHERE job_posting_id = ? " +
+                                                   "AND resume_raw_score IS NOT NULL AND cover_letter_raw_score IS NOT NULL",
+                Integer.class, jobPostingId);
+        long[] applicationIds = new long[expected];
+        double[] resumeRawScores = new double[expected];
+        double[] coverLetterRawScores = new double[expected];
+        int[] totalScores = new int[expected];
+        int[] size = {0};
+        jdbcTemplate.query("SELECT application_id, resume_raw_score, cover_letter_raw_score, total_score " +
+                           "FROM evaluation_results WHERE job_posting_id = ? " +
+                           "AND resume_raw_score IS NOT NULL AND cover_letter_raw_score IS NOT NULL",
+                rs -> {
+                    int i = size[0];
+                    if (i == applicationIds.length) {
+                        return; // COUNT 이후에 추가된 결과는 다음 적재 때 반영
+                    }
+                    applicationIds[i] = rs.getLong(1);
+                    resumeRawScores[i] = rs.getDouble(2);
+                    coverLetterRawScores[i] = rs.getDouble(3);
+                    totalScores[i] = rs.getInt(4);
+                    size[0]++;
+                }, jobPostingId);
+
+        ScoringRubric rubric = evaluationResultWriter.loadScoringRubrics(Set.of(jobPostingId)).get(jobPostingId);
+        int n = size[0];
+        Map<Long, Integer> indexByApplicationId = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            indexByApplicationId.put(applicationIds[i], i);
+        }
+        return new ScoreArrays(indexByApplicationId, Arrays.copyOf(applicationIds, n), Arrays.copyOf(resumeRawScores, n),
+                Arrays.copyOf(coverLetterRawScores, n), Arrays.copyOf(totalScores, n),
+                rubric.resumeMaxScore(), rubric.coverLetterMaxScore());
+    }
+}
@@ -0,0 +1,236 @@
+package com.jangyeonguk.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공고 한 개의 총점 순위표
+ * 점수별 인원을 펜윅 트리(누적 합 배열)로 관리하여 순위, 백분위, 점수 구간 인원을 O(log S) 에 계산한다 (S: 최고 점수).
+ * 상위 N명은 점수가 높은 칸부터 지원서 ID 를 꺼내므로 O(S + N) 이며, 총점은 공고 배점 합 이하라 S 는 작다.
+ * 동점자는 같은 순위이며 (1, 2, 2, 4 ...), 같은 점수 안에서는 먼저 들어온 지원서가 앞선다.
+ * 점수 등록/변경은 O(log S) 에 기존 점수 칸에서 지원서를 빼는 비용(칸 크기에 비례하는 배열 복사)이 더해진다.
+ */
+public class PostingLeaderboard {
+
+    /**
+     * 순위표 항목
+     */
+    public record Entry(long applicationId, int score, long rank) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> scores = new HashMap<>(); // 지원서 ID → 총점
+    private long[] tree = new long[128]; // 펜윅 트리 (인덱스 = 점수 + 1)
+    private long[][] buckets = new long[127][]; // 점수 → 지원서 ID 배열 (앞쪽 bucketSizes[score] 개만 유효)
+    private int[] bucketSizes = new int[127];
+    private int size;
+
+    /**
+     * 지원서 점수 등록/변경 (음수는 0점으로 취급)
+     */
+    public void put(long applicationId, int score) {
+        int normalized = Math.max(0, score);
+        lock.writeLock().lock();
+        try {
+            Integer previous = scores.put(applicationId, normalized);
+            if (previous != null) {
+                if (previous == normalized) {
+                    return;
+                }
+                removeFromBucket(previous, applicationId);
+                add(previous, -1);
+            } else {
+                size++;
+            }
+            ensureCapacity(normalized);
+            addToBucket(normalized, applicationId);
+            add(normalized, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long applicationId) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = scores.remove(applicationId);
+            if (previous != null) {
+                removeFromBucket(previous, applicationId);
+                add(previous, -1);
+                size--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public OptionalLong score(long applicationId) {
+        lock.readLock().lock();
+        try {
+            Integer score = scores.get(applicationId);
+            return score == null ? OptionalLong.empty() : OptionalLong.of(score);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 순위 (1 + 더 높은 점수의 인원), 없는 지원서는 empty
+     */
+    public OptionalLong rank(long applicationId) {
+        lock.readLock().lock();
+        try {
+            Integer score = scores.get(applicationId);
+            return score == null ? OptionalLong.empty() : OptionalLong.of(1 + size - prefix(score));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 백분위 (낮은 점수 인원 + 동점 인원의 절반) / 전체 × 100, 없는 지원서는 -1
+     */
+    public double percentile(long applicationId) {
+        lock.readLock().lock();
+        try {
+            Integer score = scores.get(applicationId);
+            if (score == null) {
+                return -1;
+            }
+            long below = score == 0 ? 0 : prefix(score - 1);
+            long equal = prefix(score) - below;
+            return (below + equal / 2.0) * 100.0 / size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 점수가 min 이상 max 이하인 인원
+     */
+    public long countBetween(int min, int max) {
+        lock.readLock().lock();
+        try {
+            int low = Math.max(0, min);
+            int high = Math.min(max, maxScore());
+            if (low > high) {
+                return 0;
+            }
+            return prefix(high) - (low == 0 ? 0 : prefix(low - 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 limit 명 (offset 명 건너뜀)
+     */
+    public List<Entry> top(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Entry> entries = new ArrayList<>(Math.max(0, Math.min(limit, size - offset)));
+            long seen = 0;
+            long rank = 1;
+            for (int score = maxScore(); score >= 0 && entries.size() < limit; score--) {
+                int count = bucketSizes[score];
+                if (count == 0) {
+                    continue;
+                }
+                if (seen + count <= offset) {
+                    seen += count;
+                    rank += count;
+                    continue;
+                }
+                long[] bucket = buckets[score];
+                for (int i = (int) Math.max(0, offset - seen); i < count && entries.size() < limit; i++) {
+                    entries.add(new Entry(bucket[i], score, rank));
+                }
+                seen += count;
+                rank += count;
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- 펜윅 트리 / 점수 칸 (잠금 안에서만 호출) ---
+
+    private int maxScore() {
+        return tree.length - 2;
+    }
+
+    /**
+     * 점수가 score 이하인 인원
+     */
+    private long prefix(int score) {
+        long sum = 0;
+        for (int i = Math.min(score, maxScore()) + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private void add(int score, long delta) {
+        for (int i = score + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * 최고 점수가 늘면 배열을 두 배씩 키우고 펜윅 트리는 점수별 인원으로 다시 만든다
+     */
+    private void ensureCapacity(int score) {
+        if (score <= maxScore()) {
+            return;
+        }
+        int length = tree.length;
+        while (score > length - 2) {
+            length *= 2;
+        }
+        buckets = Arrays.copyOf(buckets, length - 1);
+        bucketSizes = Arrays.copyOf(bucketSizes, length - 1);
+        tree = new long[length];
+        for (int s = 0; s < bucketSizes.length; s++) {
+            if (bucketSizes[s] > 0) {
+                add(s, bucketSizes[s]);
+            }
+        }
+    }
+
+    private void addToBucket(int score, long applicationId) {
+        long[] bucket = buckets[score];
+        if (bucket == null) {
+            bucket = buckets[score] = new long[4];
+        } else if (bucketSizes[score] == bucket.length) {
+            bucket = buckets[score] = Arrays.copyOf(bucket, bucket.length * 2);
+        }
+        bucket[bucketSizes[score]++] = applicationId;
+    }
+
+    private void removeFromBucket(int score, long applicationId) {
+        long[] bucket = buckets[score];
+        int count = bucketSizes[score];
+        for (int i = 0; i < count; i++) {
+            if (bucket[i] == applicationId) {
+                System.arraycopy(bucket, i + 1, bucket, i, count - i - 1);
+                bucketSizes[score]--;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.jangyeonguk.backend.service;
+
+/**
+ * 루브릭 동기화 요청 이벤트 (채용공고 생성/수정 트랜잭션 커밋 이후 RubricSyncService를 깨우는 용도)
+ */
+public record RubricSyncRequestedEvent(Long jobPostingId) {
+}
@@ -0,0 +1,219 @@
+package com.jangyeonguk.backend.service;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jangyeonguk.backend.client.AIClient;
+import com.jangyeonguk.backend.domain.CoverLetterQuestion;
+import com.jangyeonguk.backend.domain.CoverLetterQuestionCriterion;
+import com.jangyeonguk.backend.domain.CoverLetterQuestionCriterionDetail;
+import com.jangyeonguk.backend.domain.JobPosting;
+import com.jangyeonguk.backend.domain.ResumeItem;
+import com.jangyeonguk.backend.domain.ResumeItemCriterion;
+import com.jangyeonguk.backend.repository.CoverLetterQuestionCriterionDetailRepository;
+import com.jangyeonguk.backend.repository.CoverLetterQuestionRepository;
+import com.jangyeonguk.backend.repository.JobPostingRepository;
+import com.jangyeonguk.backend.repository.ResumeItemRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 루브릭 동기화 서비스
+ * 공고의 이력서 항목/평가기준, 자기소개서 질문/평가기준/상세를 하나의 스냅샷으로 만들고,
+ * 스냅샷 JSON의 SHA-256을 버전으로 삼아 버전이 바뀐 경우에만 AI 서버에 전송한다.
+ * 지원서 payload에는 루브릭 대신 이 버전만 실린다.
+ */
+@Slf4j
+@Service
+public class RubricSyncService {
+
+    private final JobPostingRepository jobPostingRepository;
+    private final ResumeItemRepository resumeItemRepository;
+    private final CoverLetterQuestionRepository coverLetterQuestionRepository;
+    private final CoverLetterQuestionCriterionDetailRepository coverLetterQuestionCriterionDetailRepository;
+    private final AIClient aiClient;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public RubricSyncService(JobPostingRepository jobPostingRepository,
+                             ResumeItemRepository resumeItemRepository,
+                             CoverLetterQuestionRepository coverLetterQuestionRepository,
+                             CoverLetterQuestionCriterionDetailRepository coverLetterQuestionCriterionDetailRepository,
+                             AIClient aiClient,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.resumeItemRepository = resumeItemRepository;
+        this.coverLetterQuestionRepository = coverLetterQuestionRepository;
+        this.coverLetterQuestionCriterionDetailRepository = coverLetterQuestionCriterionDetailRepository;
+        this.aiClient = aiClient;
+        this.objectMapper = objectMapper;
+        // 읽기 전용 트랜잭션(지원서 payload 생성 등) 안에서 호출되어도 버전 갱신이 커밋되도록 항상 새 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 루브릭 스냅샷 (version = content 를 compact JSON 으로 직렬화한 값의 SHA-256)
+     */
+    public record RubricSnapshot(String version, Map<String, Object> content) {
+    }
+
+    /**
+     * 채용공고 생성/수정 커밋 이후 루브릭 동기화 (실패 시 전송 시점에 다시 시도)
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRubricSyncRequested(RubricSyncRequestedEvent event) {
+        try {
+            sync(event.jobPostingId());
+        } catch (Exception e) {
+            log.warn("루브릭 동기화 실패 - JobPosting ID: {}: {}", event.jobPostingId(), e.getMessage());
+        }
+    }
+
+    /**
+     * AI 서버에 동기화된 루브릭 버전 조회 (동기화된 적이 없거나 무효화된 경우 지금 동기화)
+     */
+    public String ensureSynced(Long jobPostingId) {
+        String version = transactionTemplate.execute(status ->
+                jobPostingRepository.findRubricVersionById(jobPostingId).orElse(null));
+        return version != null ? version : sync(jobPostingId);
+    }
+
+    /**
+     * 스냅샷을 만들어 저장된 버전과 다를 때만 AI 서버에 전송
+     * 전송에 실패하면 버전을 비워 다음 전송 시점에 다시 시도되도록 한다.
+     */
+    public String sync(Long jobPostingId) {
+        String syncedVersion = transactionTemplate.execute(status ->
+                jobPostingRepository.findRubricVersionById(jobPostingId).orElse(null));
+        RubricSnapshot snapshot = transactionTemplate.execute(status -> buildSnapshot(jobPostingId));
+        if (snapshot.version().equals(syncedVersion)) {
+            return syncedVersion;
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>(snapshot.content());
+        body.put("rubricVersion", snapshot.version());
+        body.put("timestamp", System.currentTimeMillis());
+        try {
+            aiClient.post("/api/evaluation-criteria/train", body, String.class);
+        } catch (RuntimeException e) {
+            invalidate(jobPostingId);
+            throw e;
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                jobPostingRepository.updateRubricVersion(jobPostingId, snapshot.version()));
+        log.info("루브릭 동기화 완료 - JobPosting ID: {}, version: {}", jobPostingId, snapshot.version());
+        return snapshot.version();
+    }
+
+    /**
+     * AI 서버가 루브릭 버전을 모른다고 응답한 경우 등, 다음 전송 시 다시 동기화하도록 버전 초기화
+     */
+    public void invalidate(Long jobPostingId) {
+        transactionTemplate.executeWithoutResult(status ->
+                jobPostingRepository.updateRubricVersion(jobPostingId, null));
+    }
+
+    /**
+     * 루브릭 스냅샷 생성 (공고 1번 + 이력서 항목 1번 + 자기소개서 질문 1번 + 평가기준 상세 1번 쿼리)
+     * 목록은 ID 순으로 정렬하여 같은 루브릭이면 항상 같은 JSON/버전이 나오도록 한다.
+     */
+    public RubricSnapshot buildSnapshot(Long jobPostingId) {
+        JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채용공고입니다: " + jobPostingId));
+        Map<Long, List<CoverLetterQuestionCriterionDetail>> detailsByCriterion = coverLetterQuestionCriterionDetailRepository
+                .findByJobPostingIdWithCriterion(jobPostingId).stream()
+                .collect(Collectors.groupingBy(detail -> detail.getCoverLetterQuestionCriterion().getId()));
+
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("jobPostingId", jobPosting.getId());
+        content.put("title", jobPosting.getTitle());
+        content.put("companyName", jobPosting.getCompany() != null ? jobPosting.getCompany().getName() : null);
+        content.put("jobRole", jobPosting.getJobRole());
+        content.put("totalScore", jobPosting.getTotalScore());
+        content.put("passingScore", jobPosting.getPassingScore());
+        content.put("aiAutomaticEvaluation", Boolean.TRUE.equals(jobPosting.getAiAutomaticEvaluation()));
+        content.put("manualReview", Boolean.TRUE.equals(jobPosting.getManualReview()));
+        content.put("resumeItems", resumeItemRepository.findByJobPostingIdWithCriteria(jobPostingId).stream()
+                .sorted(Comparator.comparing(ResumeItem::getId))
+                .map(this::resumeItemSnapshot)
+                .toList());
+        content.put("coverLetterQuestions", coverLetterQuestionRepository.findByJobPostingIdWithCriteria(jobPostingId).stream()
+                .sorted(Comparator.comparing(CoverLetterQuestion::getId))
+                .map(question -> coverLetterQuestionSnapshot(question, detailsByCriterion))
+                .toList());
+
+        try {
+            String json = objectMapper.writeValueAsString(content);
+            return new RubricSnapshot(EvaluationResultCache.sha256(json), content);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("루브릭 스냅샷 직렬화에 실패했습니다: " + jobPostingId, e);
+        }
+    }
+
+    private Map<String, Object> resumeItemSnapshot(ResumeItem item) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("id", item.getId());
+        snapshot.put("name", item.getName());
+        snapshot.put("type", item.getType() != null ? item.getType().getDescription() : null);
+        snapshot.put("scoreWeight", item.getMaxScore() != null ? item.getMaxScore() : 0);
+        snapshot.put("isRequired", Boolean.TRUE.equals(item.getIsRequired()));
+        snapshot.put("criteria", item.getCriteria().stream()
+                .sorted(Comparator.comparing(ResumeItemCriterion::getId))
+                .map(criterion -> {
+                    Map<String, Object> value = new LinkedHashMap<>();
+                    value.put("grade", criterion.getGrade() != null ? criterion.getGrade().name() : null);
+                    value.put("description", criterion.getDescription());
+                    value.put("scorePerGrade", criterion.getScorePerGrade());
+                    return value;
+                })
+                .toList());
+        return snapshot;
+    }
+
+    private Map<String, Object> coverLetterQuestionSnapshot(CoverLetterQuestion question,
+                                                            Map<Long, List<CoverLetterQuestionCriterionDetail>> detailsByCriterion) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("id", question.getId());
+        snapshot.put("content", question.getContent());
+        snapshot.put("isRequired", Boolean.TRUE.equals(question.getIsRequired()));
+        snapshot.put("maxCharacters", question.getMaxCharacters() != null ? question.getMaxCharacters() : 0);
+        snapshot.put("maxScore", question.getMaxScore());
+        snapshot.put("criteria", question.getCriteria().stream()
+                .sorted(Comparator.comparing(CoverLetterQuestionCriterion::getId))
+                .map(criterion -> {
+                    Map<String, Object> value = new LinkedHashMap<>();
+                    value.put("name", criterion.getName());
+                    value.put("overallDescription", criterion.getOverallDescription());
+                    value.put("details", detailsByCriterion.getOrDefault(criterion.getId(), List.of()).stream()
+                            .sorted(Comparator.comparing(CoverLetterQuestionCriterionDetail::getId))
+                            .map(detail -> {
+                                Map<String, Object> detailValue = new LinkedHashMap<>();
+                                detailValue.put("grade", detail.getGrade() != null ? detail.getGrade().name() : null);
+                                detailValue.put("description", detail.getDescription());
+                                detailValue.put("scorePerGrade", detail.getScorePerGrade());
+                                return detailValue;
+                            })
+                            .toList());
+                    return value;
+                })
+                .toList());
+        return snapshot;
+    }
+}
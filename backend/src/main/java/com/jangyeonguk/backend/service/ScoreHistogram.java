@@ -0,0 +1,136 @@
+package com.jangyeonguk.backend.service;
+
+import java.util.Arrays;
+
+/**
+ * 정수 점수 분포 (점수별 인원)
+ * 점수 범위가 작아서(항목/공고 만점 이하) 근사 스케치 대신 정확한 분포를 유지하며, 재평가로 바뀐 점수는 remove 후 add 로 반영한다.
+ * 평균/분산은 합과 제곱합(long)으로 계산하므로 누적 오차가 없다. 동기화는 호출 측에서 한다.
+ */
+public class ScoreHistogram {
+
+    private long[] counts;
+    private long count;
+    private long sum;
+    private long sumOfSquares;
+
+    public ScoreHistogram() {
+        this(new long[16]);
+    }
+
+    private ScoreHistogram(long[] counts) {
+        this.counts = counts;
+        for (int score = 0; score < counts.length; score++) {
+            count += counts[score];
+            sum += counts[score] * score;
+            sumOfSquares += counts[score] * score * score;
+        }
+    }
+
+    /**
+     * 체크포인트에서 복원
+     */
+    public static ScoreHistogram fromCounts(long[] counts) {
+        return new ScoreHistogram(counts == null ? new long[16] : counts.clone());
+    }
+
+    public long[] toCounts() {
+        int length = counts.length;
+        while (length > 0 && counts[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.copyOf(counts, length);
+    }
+
+    public void add(int score) {
+        int normalized = Math.max(0, score);
+        if (normalized >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(normalized + 1, counts.length * 2));
+        }
+        counts[normalized]++;
+        count++;
+        sum += normalized;
+        sumOfSquares += (long) normalized * normalized;
+    }
+
+    public void remove(int score) {
+        int normalized = Math.max(0, score);
+        if (normalized >= counts.length || counts[normalized] == 0) {
+            return;
+        }
+        counts[normalized]--;
+        count--;
+        sum -= normalized;
+        sumOfSquares -= (long) normalized * normalized;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long sum() {
+        return sum;
+    }
+
+    public double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * 모분산
+     */
+    public double variance() {
+        if (count == 0) {
+            return 0;
+        }
+        double mean = mean();
+        return Math.max(0, (double) sumOfSquares / count - mean * mean);
+    }
+
+    public Integer min() {
+        for (int score = 0; score < counts.length; score++) {
+            if (counts[score] > 0) {
+                return score;
+            }
+        }
+        return null;
+    }
+
+    public Integer max() {
+        for (int score = counts.length - 1; score >= 0; score--) {
+            if (counts[score] > 0) {
+                return score;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * q 분위 점수 (0 ≤ q ≤ 1, nearest-rank)
+     */
+    public Integer quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(1, Math.max(0, q)) * count));
+        long seen = 0;
+        for (int score = 0; score < counts.length; score++) {
+            seen += counts[score];
+            if (seen >= target) {
+                return score;
+            }
+        }
+        return max();
+    }
+
+    /**
+     * 점수가 threshold 이상인 인원
+     */
+    public long countAtLeast(int threshold) {
+        long below = 0;
+        for (int score = 0; score < Math.min(Math.max(0, threshold), counts.length); score++) {
+            below += counts[score];
+        }
+        return count - below;
+    }
+}
@@ -30,6 +30,7 @@ CREATE TABLE job_postings (
     passing_score INT DEFAULT 0 COMMENT '합격기준점수',
     ai_automatic_evaluation BOOLEAN DEFAULT FALSE COMMENT 'AI 자동평가여부',
     manual_review BOOLEAN DEFAULT FALSE COMMENT '수동 검토여부',
+    rubric_version CHAR(64) COMMENT 'AI 서버에 동기화된 루브릭 스냅샷 버전 (SHA-256)',
     posting_status ENUM('SCHEDULED', 'IN_PROGRESS', 'CLOSED', 'EVALUATION_COMPLETE') COMMENT '공고 상태: 예정/진행/마감/평가완료',
     public_link_url VARCHAR(500) COMMENT '공개 링크 URL',
     company_id BIGINT NOT NULL COMMENT '하나의 공고는 하나의 회사에 속한다 (N:1). 연관 주인은 이쪽(FK 보유)',
@@ -55,6 +56,8 @@ CREATE TABLE applications (
     job_posting_id BIGINT NOT NULL COMMENT '채용공고 ID',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    INDEX idx_applications_status_created_at (status, created_at),
+    INDEX idx_applications_posting_status (job_posting_id, status),
     FOREIGN KEY (applicant_id) REFERENCES applicants(id) ON DELETE CASCADE,
     FOREIGN KEY (job_posting_id) REFERENCES job_postings(id) ON DELETE CASCADE
 ) COMMENT '지원서 엔티티';
@@ -86,7 +89,7 @@ CREATE TABLE resume_item_criteria (
 
 -- 7. 이력서 항목 답변 테이블
 CREATE TABLE resume_item_answers (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '이력서 항목 답변 ID',
+    id BIGINT PRIMARY KEY COMMENT '이력서 항목 답변 ID (id_generators에서 발급)',
     resume_content TEXT COMMENT '제출한 이력서 답변 내용',
     application_id BIGINT NOT NULL COMMENT '여러 답변은 하나의 지원서에 속함 (N:1)',
     resume_item_id BIGINT NOT NULL COMMENT '여러 답변은 하나의 이력서 항목에 속함 (N:1)',
@@ -134,7 +137,7 @@ CREATE TABLE cover_letter_question_criterion_details (
 
 -- 11. 자기소개서 질문 답변 테이블
 CREATE TABLE cover_letter_question_answers (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '자기소개서 질문 답변 ID',
+    id BIGINT PRIMARY KEY COMMENT '자기소개서 질문 답변 ID (id_generators에서 발급)',
     answer_content TEXT COMMENT '답변 내용',
     application_id BIGINT NOT NULL COMMENT '지원서 ID',
     cover_letter_question_id BIGINT NOT NULL COMMENT '자기소개서 질문 ID',
@@ -149,13 +152,106 @@ CREATE TABLE evaluation_results (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '평가결과 ID',
     application_id BIGINT NOT NULL COMMENT '지원서 ID',
     job_posting_id BIGINT NOT NULL COMMENT '채용공고 ID',
-    total_score INT NOT NULL COMMENT '총점',
+    total_score INT NOT NULL COMMENT '공고 배점 비중을 반영한 가중 총점',
+    resume_raw_score DOUBLE COMMENT '이력서 항목 점수 합',
+    cover_letter_raw_score DOUBLE COMMENT '자기소개서 등급 환산 점수 합',
     resume_scores TEXT COMMENT 'JSON 형태로 저장',
     cover_letter_scores TEXT COMMENT 'JSON 형태로 저장',
     overall_evaluation TEXT COMMENT 'JSON 형태로 저장',
+    ai_recommendation VARCHAR(50) COMMENT 'AI 추천결과 (목록 조회용, overall_evaluation.aiRecommendation)',
+    payload_hash CHAR(64) COMMENT 'AI 평가 내용 해시 (같은 결과 재전송 시 쓰기 생략)',
     evaluation_completed_at DATETIME COMMENT '평가 완료일시',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    UNIQUE KEY uk_evaluation_results_application_id (application_id),
+    INDEX idx_evaluation_results_posting_total_score (job_posting_id, total_score),
     FOREIGN KEY (application_id) REFERENCES applications(id) ON DELETE CASCADE,
     FOREIGN KEY (job_posting_id) REFERENCES job_postings(id) ON DELETE CASCADE
-) COMMENT '평가 결과 엔티티';
\ No newline at end of file
+) COMMENT '평가 결과 엔티티';
+
+-- 기존 평가 결과의 AI 추천결과 채우기 (ai_recommendation 컬럼 추가 후 1회)
+-- UPDATE evaluation_results
+--    SET ai_recommendation = LEFT(JSON_UNQUOTE(JSON_EXTRACT(overall_evaluation, '$.aiRecommendation')), 50)
+--  WHERE ai_recommendation IS NULL AND overall_evaluation IS NOT NULL;
+
+-- 12-1. 이력서 항목별 AI 점수 테이블 (evaluation_results.resume_scores 정규화)
+CREATE TABLE evaluation_resume_item_scores (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '이력서 항목 점수 ID',
+    application_id BIGINT NOT NULL COMMENT '지원서 ID',
+    job_posting_id BIGINT NOT NULL COMMENT '채용공고 ID',
+    resume_item_id BIGINT NOT NULL COMMENT '이력서 항목 ID',
+    score INT NOT NULL COMMENT 'AI 점수',
+    INDEX idx_eval_resume_item_scores_posting_item_score (job_posting_id, resume_item_id, score),
+    INDEX idx_eval_resume_item_scores_application (application_id),
+    FOREIGN KEY (application_id) REFERENCES applications(id) ON DELETE CASCADE
+) COMMENT '이력서 항목별 AI 점수';
+
+-- 기존 항목 점수를 수신 시와 같은 기준으로 정리 (공고에 없는 항목 삭제, 0 ~ 항목 최대 점수로 자름, 1회)
+-- 정리 후 posting_score_statistics 행을 지우면 통계가 다시 적재된다.
+-- DELETE s FROM evaluation_resume_item_scores s
+--   LEFT JOIN resume_items r ON r.id = s.resume_item_id AND r.job_posting_id = s.job_posting_id
+--  WHERE r.id IS NULL;
+-- UPDATE evaluation_resume_item_scores s
+--   JOIN resume_items r ON r.id = s.resume_item_id
+--    SET s.score = GREATEST(0, LEAST(s.score, r.max_score))
+--  WHERE s.score < 0 OR s.score > r.max_score;
+
+-- 12-2. 자기소개서 평가 기준별 AI 등급 테이블 (evaluation_results.cover_letter_scores 정규화)
+CREATE TABLE evaluation_cover_letter_grades (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '자기소개서 등급 ID',
+    application_id BIGINT NOT NULL COMMENT '지원서 ID',
+    job_posting_id BIGINT NOT NULL COMMENT '채용공고 ID',
+    cover_letter_question_id BIGINT NOT NULL COMMENT '자기소개서 질문 ID',
+    criterion_name VARCHAR(255) NOT NULL COMMENT '평가기준 이름',
+    grade ENUM('EXCELLENT', 'GOOD', 'NORMAL', 'POOR') NOT NULL COMMENT 'AI 등급',
+    INDEX idx_eval_cover_letter_grades_posting_question_criterion_grade (job_posting_id, cover_letter_question_id, criterion_name, grade),
+    INDEX idx_eval_cover_letter_grades_application (application_id),
+    FOREIGN KEY (application_id) REFERENCES applications(id) ON DELETE CASCADE
+) COMMENT '자기소개서 평가 기준별 AI 등급';
+
+-- 12-3. 공고별 점수 통계 체크포인트 테이블 (메모리 점수 분포 복원용)
+CREATE TABLE posting_score_statistics (
+    job_posting_id BIGINT PRIMARY KEY COMMENT '채용공고 ID',
+    total_histogram TEXT COMMENT '총점 분포 (JSON 배열, 인덱스 = 점수)',
+    resume_item_histograms MEDIUMTEXT COMMENT '이력서 항목별 점수 분포 (JSON)',
+    application_scores MEDIUMTEXT COMMENT '지원서별 반영 점수 (JSON, 지원서 ID → [총점, 항목 ID, 점수, ...])',
+    result_count BIGINT NOT NULL COMMENT '체크포인트 시점 평가 결과 수',
+    total_score_sum BIGINT NOT NULL COMMENT '체크포인트 시점 총점 합',
+    item_score_count BIGINT NOT NULL COMMENT '체크포인트 시점 항목 점수 수',
+    item_score_sum BIGINT NOT NULL COMMENT '체크포인트 시점 항목 점수 합',
+    updated_at DATETIME COMMENT '체크포인트 시각',
+    FOREIGN KEY (job_posting_id) REFERENCES job_postings(id) ON DELETE CASCADE
+) COMMENT '공고별 점수 통계 체크포인트';
+
+-- 13. ID 생성기 테이블 (INSERT 배치를 위한 pooled 테이블 생성기, allocationSize = 50)
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY COMMENT '대상 테이블명',
+    next_val BIGINT COMMENT '다음에 발급할 ID 블록의 시작값'
+) COMMENT 'ID 생성기';
+
+-- 기존 데이터가 있는 경우 현재 최대 ID 이후부터 발급되도록 초기화
+-- (pooled 옵티마이저는 next_val - 49 부터 발급하므로 MAX(id) + allocationSize로 시드한다.
+--  운영에서는 IdGeneratorInitializer가 기동 시 같은 값을 보장한다.)
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'resume_item_answers', COALESCE(MAX(id), 0) + 50 FROM resume_item_answers;
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'cover_letter_question_answers', COALESCE(MAX(id), 0) + 50 FROM cover_letter_question_answers;
+
+-- 14. AI 평가 전송 아웃박스 테이블
+CREATE TABLE ai_dispatch_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '아웃박스 ID',
+    application_id BIGINT NOT NULL UNIQUE COMMENT '지원서 ID (지원서당 1행)',
+    job_posting_id BIGINT NOT NULL COMMENT '채용공고 ID',
+    evaluation_deadline DATETIME COMMENT '공고 평가 마감일 (우선순위 기준)',
+    status ENUM('PENDING', 'IN_FLIGHT', 'SENT', 'FAILED') NOT NULL COMMENT '전송 상태 (대기, 전송중, 완료, 실패)',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '전송 시도 횟수',
+    sweep_requeues INT NOT NULL DEFAULT 0 COMMENT '스위퍼 재대기 횟수',
+    next_attempt_at DATETIME NOT NULL COMMENT '다음 전송 가능 시각 (실패 시 백오프 적용)',
+    claimed_at DATETIME COMMENT '릴레이 선점 시각',
+    sent_at DATETIME COMMENT '전송 완료 시각',
+    content_hash CHAR(64) COMMENT '답변 내용 + 루브릭 해시 (평가 결과 캐시 키)',
+    last_error TEXT COMMENT '마지막 전송 오류',
+    created_at DATETIME COMMENT '생성일시',
+    INDEX idx_ai_dispatch_outbox_status_next_attempt (status, next_attempt_at),
+    FOREIGN KEY (application_id) REFERENCES applications(id) ON DELETE CASCADE
+) COMMENT 'AI 평가 전송 아웃박스';
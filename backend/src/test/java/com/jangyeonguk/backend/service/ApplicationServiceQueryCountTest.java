@@ -0,0 +1,169 @@
+package com.jangyeonguk.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jangyeonguk.backend.domain.Applicant;
+import com.jangyeonguk.backend.domain.Application;
+import com.jangyeonguk.backend.domain.ApplicationStatus;
+import com.jangyeonguk.backend.domain.CoverLetterQuestion;
+import com.jangyeonguk.backend.domain.CoverLetterQuestionAnswer;
+import com.jangyeonguk.backend.domain.EvaluationResult;
+import com.jangyeonguk.backend.domain.JobPosting;
+import com.jangyeonguk.backend.domain.ResumeItem;
+import com.jangyeonguk.backend.domain.ResumeItemAnswer;
+import com.jangyeonguk.backend.dto.application.ApplicationCreateRequestDto;
+import com.jangyeonguk.backend.dto.application.ApplicationResponseDto;
+import com.jangyeonguk.backend.dto.application.CursorPageResponseDto;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 공고별 지원서 목록 조회와 지원서 제출의 쿼리 수가 지원서 수와 무관하게 일정한지 확인
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ApplicationServiceQueryCountTest {
+
+    /**
+     * 제출 1건의 문장 수 (ID 생성기 블록 조회 제외)
+     * 공고 조회, 지원자 이메일 조회, 지원자 INSERT, 지원서 INSERT, 이력서 항목 조회, 자기소개서 질문 조회,
+     * 이력서 답변 배치 INSERT, 자기소개서 답변 배치 INSERT, 아웃박스 INSERT
+     */
+    private static final long SUBMIT_STATEMENTS = 9;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void applicationPageQueryCountDoesNotGrowWithPageSize() {
+        Long smallPosting = createPostingWithApplications(5);
+        Long largePosting = createPostingWithApplications(40);
+
+        long smallQueries = countQueries(smallPosting, 5);
+        long largeQueries = countQueries(largePosting, 40);
+
+        assertEquals(smallQueries, largeQueries);
+        assertTrue(largeQueries <= 4, "지원서 페이지 1번 + 답변 조회 2번 + 평가 결과 조회 1번: " + largeQueries);
+    }
+
+    @Test
+    void submitQueryCountDoesNotGrowWithExistingApplications() {
+        Long smallPosting = createPostingWithApplications(5);
+        Long largePosting = createPostingWithApplications(40);
+
+        long smallStatements = minSubmitStatements(smallPosting);
+        long largeStatements = minSubmitStatements(largePosting);
+
+        assertEquals(SUBMIT_STATEMENTS, smallStatements, "5건 공고 제출 문장 수");
+        assertEquals(SUBMIT_STATEMENTS, largeStatements, "40건 공고 제출 문장 수");
+    }
+
+    /**
+     * 같은 공고에 연속으로 제출한 결과 중 최솟값
+     * ID 생성기는 블록(50개)마다 조회/갱신 문장을 더하는데, 생성기 2개가 연속 3번의 제출 중 각각 최대 한 번만 블록을 새로 받으므로
+     * 최소 한 번은 생성기 문장 없이 측정된다.
+     */
+    private long minSubmitStatements(Long jobPostingId) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            min = Math.min(min, countSubmitStatements(jobPostingId));
+        }
+        return min;
+    }
+
+    private long countSubmitStatements(Long jobPostingId) {
+        List<Long> resumeItemIds = entityManager.createQuery(
+                "SELECT r.id FROM ResumeItem r WHERE r.jobPosting.id = :id", Long.class)
+                .setParameter("id", jobPostingId)
+                .getResultList();
+        List<Long> questionIds = entityManager.createQuery(
+                "SELECT q.id FROM CoverLetterQuestion q WHERE q.jobPosting.id = :id", Long.class)
+                .setParameter("id", jobPostingId)
+                .getResultList();
+        ApplicationCreateRequestDto request = new ApplicationCreateRequestDto(
+                "제출자",
+                "submit-" + System.nanoTime() + "@example.com",
+                resumeItemIds.stream().map(id -> new ApplicationCreateRequestDto.ResumeItemAnswerDto(id, null, "답변")).toList(),
+                questionIds.stream().map(id -> new ApplicationCreateRequestDto.CoverLetterQuestionAnswerDto(id, null, "답변")).toList());
+
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        applicationService.submitApplication(jobPostingId, request);
+        entityManager.flush();
+
+        // ID 생성기 문장이 섞이지 않는 지표는 매 제출마다 정확히 고정한다
+        assertEquals(0, statistics.getCollectionLoadCount(), "제출 중 지원서 컬렉션이 초기화됨");
+        assertEquals(3, statistics.getEntityLoadCount(), "공고 + 이력서 항목 + 자기소개서 질문");
+        assertEquals(5, statistics.getEntityInsertCount(), "지원자 + 지원서 + 답변 2건 + 아웃박스");
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long countQueries(Long jobPostingId, int expectedSize) {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        CursorPageResponseDto<ApplicationResponseDto> page = applicationService.getApplicationsByJobPosting(jobPostingId, null, 100, "id");
+
+        assertEquals(expectedSize, page.getItems().size());
+        page.getItems().forEach(item -> {
+            assertEquals(1, item.getResumeItemAnswers().size());
+            assertEquals(1, item.getCoverLetterQuestionAnswers().size());
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long createPostingWithApplications(int count) {
+        JobPosting jobPosting = JobPosting.builder()
+                .title("쿼리 수 테스트")
+                .resumeScoreWeight(50)
+                .coverLetterScoreWeight(50)
+                .build();
+        entityManager.persist(jobPosting);
+
+        ResumeItem resumeItem = ResumeItem.builder().name("학력").maxScore(10).jobPosting(jobPosting).build();
+        CoverLetterQuestion question = CoverLetterQuestion.builder().content("지원 동기").maxCharacters(500).jobPosting(jobPosting).build();
+        entityManager.persist(resumeItem);
+        entityManager.persist(question);
+
+        for (int i = 0; i < count; i++) {
+            Applicant applicant = new Applicant();
+            applicant.setName("지원자" + i);
+            applicant.setEmail("query-count-" + System.nanoTime() + "-" + i + "@example.com");
+            entityManager.persist(applicant);
+
+            Application application = Application.builder()
+                    .status(ApplicationStatus.IN_PROGRESS)
+                    .applicant(applicant)
+                    .jobPosting(jobPosting)
+                    .build();
+            entityManager.persist(application);
+            entityManager.persist(ResumeItemAnswer.builder().resumeContent("답변").resumeItem(resumeItem).application(application).build());
+            entityManager.persist(CoverLetterQuestionAnswer.builder().answerContent("답변").coverLetterQuestion(question).application(application).build());
+            if (i % 2 == 0) {
+                entityManager.persist(EvaluationResult.builder()
+                        .application(application)
+                        .jobPosting(jobPosting)
+                        .totalScore(i)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        return jobPosting.getId();
+    }
+}
@@ -0,0 +1,162 @@
+package com.jangyeonguk.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jangyeonguk.backend.dto.evaluation.EvaluationResultRequestDto;
+import com.jangyeonguk.backend.exception.IntakeBacklogFullException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 평가 결과 수신 저널의 재시도/체크포인트/대기 한도/정리 동작 확인
+ */
+class EvaluationIntakeJournalTest {
+
+    @TempDir
+    Path journalDir;
+
+    private final ApplicationService applicationService = mock(ApplicationService.class);
+    private final AtomicBoolean dbDown = new AtomicBoolean();
+    private EvaluationIntakeJournal journal;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        dbDown.set(false);
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void transientFailureIsRetriedWithoutAdvancingCheckpoint() throws Exception {
+        failWhileDbDown();
+        journal = openJournal(10, Long.MAX_VALUE);
+        dbDown.set(true);
+
+        journal.append(result(1L));
+
+        // 이전 구현의 최대 시도 횟수(3)를 넘겨도 버리지 않고 계속 재시도한다
+        verify(applicationService, timeout(2000).atLeast(5)).processEvaluationResult(any());
+        journal.checkpoint();
+        assertEquals(0, readCheckpoint());
+
+        dbDown.set(false);
+        awaitCheckpoint(1);
+    }
+
+    @Test
+    void validationFailureIsNotRetried() throws Exception {
+        doThrow(new IllegalArgumentException("지원서를 찾을 수 없습니다.")).when(applicationService).processEvaluationResult(any());
+        journal = openJournal(10, Long.MAX_VALUE);
+
+        journal.append(result(1L));
+
+        awaitCheckpoint(1);
+        verify(applicationService, times(1)).processEvaluationResult(any());
+    }
+
+    @Test
+    void appendIsRejectedWhenBacklogIsFull() throws Exception {
+        failWhileDbDown();
+        journal = openJournal(1, Long.MAX_VALUE);
+        dbDown.set(true);
+
+        journal.append(result(1L));
+
+        assertThrows(IntakeBacklogFullException.class, () -> journal.append(result(2L)));
+        dbDown.set(false);
+        awaitCheckpoint(1);
+        journal.append(result(2L));
+        awaitCheckpoint(2);
+    }
+
+    @Test
+    void compactionKeepsRecordsAfterCheckpoint() throws Exception {
+        failWhileDbDown();
+        journal = openJournal(10, 1);
+        dbDown.set(true);
+
+        journal.append(result(1L));
+        verify(applicationService, timeout(2000).atLeast(1)).processEvaluationResult(any());
+        journal.checkpoint();
+
+        List<String> lines = Files.readAllLines(journalDir.resolve("evaluation-results.journal"), StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("1\t"));
+
+        dbDown.set(false);
+        awaitCheckpoint(1);
+        journal.checkpoint();
+        assertEquals(0, Files.size(journalDir.resolve("evaluation-results.journal")));
+    }
+
+    private void failWhileDbDown() {
+        doAnswer(invocation -> {
+            if (dbDown.get()) {
+                throw new DataAccessResourceFailureException("DB 연결 실패");
+            }
+            return null;
+        }).when(applicationService).processEvaluationResult(any());
+    }
+
+    private EvaluationIntakeJournal openJournal(int maxPending, long compactBytes) throws IOException {
+        EvaluationIntakeJournal opened = new EvaluationIntakeJournal(applicationService, new ObjectMapper(), new SimpleMeterRegistry(),
+                journalDir.toString(), 2, true, 10, 50, maxPending, 50, compactBytes);
+        opened.open();
+        return opened;
+    }
+
+    private EvaluationResultRequestDto result(Long applicationId) {
+        EvaluationResultRequestDto result = new EvaluationResultRequestDto();
+        result.setApplicationId(applicationId);
+        result.setResumeEvaluations(List.of());
+        return result;
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path checkpointFile = journalDir.resolve("evaluation-results.checkpoint");
+        return Files.exists(checkpointFile) ? Long.parseLong(Files.readString(checkpointFile).trim()) : 0;
+    }
+
+    private void awaitCheckpoint(long expected) throws Exception {
+        await(() -> {
+            journal.checkpoint();
+            try {
+                return readCheckpoint() == expected;
+            } catch (IOException e) {
+                return false;
+            }
+        });
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "시간 안에 조건을 만족하지 못함");
+            Thread.sleep(20);
+        }
+    }
+}
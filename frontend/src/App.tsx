@@ -21,7 +21,6 @@ import {
 } from './hooks/useApi';
 import { 
   JobPostingResponseDto, 
-  ApplicationResponseDto,
   PostingStatus,
   ApplicationStatus 
 } from './services';
@@ -65,19 +64,6 @@ interface Applicant {
   }[];
 }
 
-// API에서 가져온 지원자 데이터를 프론트엔드 형식으로 변환하는 함수
-const convertApplicationsToApplicants = (applications: ApplicationResponseDto[]): Applicant[] => {
-  return applications.map(app => ({
-    id: app.id.toString(),
-    name: app.applicantName,
-    email: app.applicantEmail,
-    score: 0, // TODO: 실제 점수는 별도 API에서 가져와야 함
-    status: 'not-evaluated' as const, // TODO: 실제 상태는 API에서 가져와야 함
-    keywords: [], // TODO: 실제 키워드는 별도 API에서 가져와야 함
-    questions: [] // TODO: 실제 질문/답변은 별도 API에서 가져와야 함
-  }));
-};
-
 // 워크스페이스별 지원자 데이터를 가져오는 함수 (기존 인터페이스 유지)
 const getApplicantsByWorkspace = (workspaceId: string | null): Applicant[] => {
   // TODO: 실제로는 useApplicationsByJobPosting 훅을 사용해야 하지만,
@@ -211,9 +197,9 @@ export default function App() {
 
   // 평가 데이터를 동적으로 계산 (API 연동)
   const evaluationData = useMemo(() => {
-    const getEvaluationStats = (applicants: Applicant[]) => {
-      const total = applicants.length;
-      const evaluated = applicants.filter(a => a.status === 'passed' || a.status === 'unqualified').length;
+    const getEvaluationStats = (counts?: { total: number; evaluated: number }) => {
+      const total = counts?.total ?? 0;
+      const evaluated = counts?.evaluated ?? 0;
       const completionRate = total > 0 ? Math.round((evaluated / total) * 100) : 0;
       
       return { total, evaluated, completionRate };
@@ -227,13 +213,8 @@ export default function App() {
         const workspaceId = parseInt(workspace.id);
         const queryIndex = recruitingWorkspaceIds.indexOf(workspaceId);
         
-        let applicants: Applicant[] = [];
-        if (queryIndex >= 0 && applicationsQueries[queryIndex]?.data) {
-          // API에서 가져온 지원서 데이터를 프론트엔드 형식으로 변환
-          applicants = convertApplicationsToApplicants(applicationsQueries[queryIndex].data || []);
-        }
-        
-        const stats = getEvaluationStats(applicants);
+        // 요약 API로 조회한 지원서 수/평가 완료 수 (지원서 목록은 불러오지 않음)
+        const stats = getEvaluationStats(queryIndex >= 0 ? applicationsQueries[queryIndex]?.data : undefined);
         
         // 직무명 추출
         const position = workspace.team.split(', ').pop() || workspace.title;
@@ -4,7 +4,7 @@ import { Button } from "./ui/button";
 import { Card, CardContent, CardHeader, CardTitle } from "./ui/card";
 import { Progress } from "./ui/progress";
 import { Badge } from "./ui/badge";
-import { useJobPostings, useApplicationsByJobPosting } from "../hooks/useApi";
+import { useJobPostings } from "../hooks/useApi";
 import { useQueries } from "@tanstack/react-query";
 import { JobPostingResponseDto, ApplicationResponseDto, WorkspaceCard } from "../services";
 import { EvaluationCriteriaModal } from "./EvaluationCriteriaModal";
@@ -1,11 +1,13 @@
 // React Query 훅들 - 백엔드 API와 연동
-import { useQuery, useMutation, useQueryClient, useQueries } from '@tanstack/react-query';
+import { useQuery, useInfiniteQuery, useMutation, useQueryClient, useQueries } from '@tanstack/react-query';
 import { 
   jobPostingApi, 
   applicationApi, 
   companyApi,
   JobPostingResponseDto,
-  ApplicationResponseDto,
+  ApplicationStatus,
+  ApplicationSummaryPageDto,
+  ApplicationSummaryQuery,
   CompanyResponseDto,
   JobPostingCreateRequestDto,
   ApplicationCreateRequestDto,
@@ -77,11 +79,14 @@ export const useJobPostingMutation = () => {
   return { createMutation, updateMutation };
 };
 
-// 공고별 지원서 조회
-export const useApplicationsByJobPosting = (jobPostingId: number) => {
-  return useQuery<ApplicationResponseDto[]>({
-    queryKey: ['applications', jobPostingId],
-    queryFn: () => applicationApi.getApplicationsByJobPosting(jobPostingId),
+// 공고별 지원서 요약 목록 조회 (페이지 단위로 더 불러오기: fetchNextPage / hasNextPage)
+export const useApplicationsByJobPosting = (jobPostingId: number, query: Omit<ApplicationSummaryQuery, 'page'> = {}) => {
+  return useInfiniteQuery({
+    queryKey: ['applications', jobPostingId, 'summaries', query],
+    queryFn: ({ pageParam }) => applicationApi.getApplicationSummaries(jobPostingId, { ...query, page: pageParam }),
+    initialPageParam: 0,
+    getNextPageParam: (lastPage: ApplicationSummaryPageDto) =>
+      (lastPage.page + 1) * lastPage.size < lastPage.totalElements ? lastPage.page + 1 : undefined,
     enabled: !!jobPostingId,
   });
 };
@@ -122,11 +127,20 @@ export const useEvaluationMutation = () => {
   });
 };
 
-// 여러 워크스페이스의 지원서 데이터를 가져오는 훅
+// 여러 워크스페이스의 지원서 수/평가 완료 수를 가져오는 훅 (지원서 목록 대신 요약 API의 totalElements만 사용)
 export const useMultipleApplications = (workspaceIds: number[]) => {
   const queries = workspaceIds.map(workspaceId => ({
-    queryKey: ['applications', workspaceId],
-    queryFn: () => applicationApi.getApplicationsByJobPosting(workspaceId),
+    queryKey: ['applications', workspaceId, 'counts'],
+    queryFn: async () => {
+      const [all, evaluated] = await Promise.all([
+        applicationApi.getApplicationSummaries(workspaceId, { size: 1 }),
+        applicationApi.getApplicationSummaries(workspaceId, {
+          size: 1,
+          status: [ApplicationStatus.ACCEPTED, ApplicationStatus.REJECTED],
+        }),
+      ]);
+      return { total: all.totalElements, evaluated: evaluated.totalElements };
+    },
     enabled: workspaceId > 0,
   }));
 
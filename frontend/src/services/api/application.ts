@@ -2,6 +2,9 @@ import { api } from '../config/axios';
 import { 
   ApplicationCreateRequestDto, 
   ApplicationResponseDto, 
+  ApplicationSummaryPageDto,
+  ApplicationSummaryQuery,
+  CursorPageResponseDto,
   EvaluationResultRequestDto
 } from '../types';
 
@@ -13,18 +16,33 @@ export const applicationApi = {
     return response.data;
   },
   
-  // 지원서 목록 조회
-  getApplications: async (): Promise<ApplicationResponseDto[]> => {
-    const response = await api.get('/applications');
+  // 지원서 목록 페이지 조회
+  getApplicationsPage: async (cursor?: string, size?: number): Promise<CursorPageResponseDto<ApplicationResponseDto>> => {
+    const response = await api.get('/applications', { params: { cursor, size } });
     return response.data;
   },
+
   
-  // 공고별 지원서 조회
-  getApplicationsByJobPosting: async (jobPostingId: number): Promise<ApplicationResponseDto[]> => {
-    const response = await api.get(`/applications/job-postings/${jobPostingId}`);
+  // 공고별 지원서 페이지 조회 (sort: 'id' 지원 순, 'score' 총점 높은 순)
+  getApplicationsByJobPostingPage: async (
+    jobPostingId: number,
+    cursor?: string,
+    size?: number,
+    sort: 'id' | 'score' = 'id'
+  ): Promise<CursorPageResponseDto<ApplicationResponseDto>> => {
+    const response = await api.get(`/applications/job-postings/${jobPostingId}`, { params: { cursor, size, sort } });
     return response.data;
   },
+
   
+  // 공고별 지원서 요약 목록 조회 (이름, 이메일, 상태, 총점, AI 추천결과)
+  getApplicationSummaries: async (jobPostingId: number, query: ApplicationSummaryQuery = {}): Promise<ApplicationSummaryPageDto> => {
+    const response = await api.get(`/applications/job-postings/${jobPostingId}/summaries`, {
+      params: { ...query, status: query.status?.join(',') },
+    });
+    return response.data;
+  },
+
   // 지원서 상세 조회 (지원자 정보, 답변, 평가 결과 포함)
   getApplicationDetails: async (applicationId: number): Promise<ApplicationResponseDto> => {
     const response = await api.get(`/applications/${applicationId}`);
@@ -21,6 +21,43 @@ export interface ApplicationResponseDto {
   passingScore: number;
 }
 
+// 커서 페이지 응답 DTO (다음 페이지는 nextCursor 로 조회)
+export interface CursorPageResponseDto<T> {
+  items: T[];
+  size: number;
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
+// 지원서 요약 목록 응답 DTO (목록 화면용, 답변 본문 제외)
+export interface ApplicationSummaryDto {
+  applicationId: number;
+  applicantName: string;
+  applicantEmail: string;
+  status: ApplicationStatus;
+  totalScore: number | null;
+  aiRecommendation: string | null;
+}
+
+export interface ApplicationSummaryPageDto {
+  jobPostingId: number;
+  page: number;
+  size: number;
+  totalElements: number;
+  items: ApplicationSummaryDto[];
+}
+
+export interface ApplicationSummaryQuery {
+  page?: number;
+  size?: number;
+  sort?: 'id' | 'name' | 'status' | 'score' | 'createdAt';
+  direction?: 'asc' | 'desc';
+  status?: ApplicationStatus[];
+  aiRecommendation?: string;
+  minScore?: number;
+  maxScore?: number;
+}
+
 // 지원서 생성 요청 DTO
 export interface ApplicationCreateRequestDto {
   applicantName: string;
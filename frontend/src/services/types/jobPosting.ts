@@ -109,6 +109,7 @@ export interface JobPostingResponseDto {
   companyId: number;
   companyName: string;
   applicationCount: number;
+  applicationStatusCounts?: Partial<Record<'BEFORE_EVALUATION' | 'IN_PROGRESS' | 'REJECTED' | 'ACCEPTED' | 'ON_HOLD', number>>;
   resumeItems: ResumeItemResponseDto[];
   coverLetterQuestions: CoverLetterQuestionResponseDto[];
 }
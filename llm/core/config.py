@@ -32,6 +32,10 @@ class Settings(BaseSettings):
     # --- API 및 외부 서비스 설정 ---
     # 백엔드(Spring Boot) 서버에서 평가 결과를 받을 엔드포인트 URL
     SPRING_BOOT_URL: str = "http://localhost:8080/api/applications/evaluation-result"
+    # 평가 결과를 모아서 NDJSON 으로 보내는 일괄 수신 엔드포인트
+    SPRING_BOOT_BATCH_URL: str = "http://localhost:8080/api/applications/evaluation-results"
+    RESULT_BATCH_MAX_SIZE: int = 50         # 이 건수가 모이면 즉시 전송
+    RESULT_BATCH_MAX_WAIT_SECONDS: float = 2.0  # 첫 결과 이후 최대 대기 시간
 
     # --- 데이터 및 자산 파일 경로 설정 ---
     # os.path.join을 사용하여 어떤 OS에서도 경로가 올바르게 작동하도록 합니다.
@@ -48,6 +52,9 @@ class Settings(BaseSettings):
     # P1 학습 시 사용할 원본 예시 데이터 파일
     EXAMPLES_FILE: str = os.path.join(DATA_DIR, "examples.json")
 
+    # 백엔드가 보낸 루브릭 스냅샷 저장 경로 (버전별 JSON 파일)
+    RUBRICS_DIR: str = os.path.join(DATA_DIR, "rubrics")
+
     # --- RAG DB (ChromaDB) 설정 ---
     DB_PATH: str = os.path.join(DATA_DIR, "db")
     COLLECTION_NAME: str = "pickple_rag_assets"
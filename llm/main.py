@@ -1,18 +1,22 @@
 # llm/main.py
 
+import gzip
 import json
 import logging
 import time
 import random
 import os
+import queue
+import threading
 from typing import List, Dict, Any, Optional
 from fastapi import FastAPI, Depends, HTTPException, BackgroundTasks
-from pydantic import BaseModel
+from pydantic import BaseModel, ValidationError
 
 # 각 모듈에서 필요한 클래스, 함수, 객체들을 가져옵니다.
 from schemas import (
     EvaluationCriteriaRequest, EvaluationCriteriaResponse,
-    ApplicationSubmitRequest, ApplicationSubmitResponse, EvaluationResult
+    ApplicationSubmitRequest, ApplicationSubmitResponse, EvaluationResult,
+    ApplicationBatchSubmitRequest, ApplicationBatchSubmitResponse
 )
 from dependencies import get_p2_llm_manager, get_similarity_evaluator
 from pipelines.p1_builder import run_p1_pipeline
@@ -29,6 +33,51 @@ app = FastAPI(
     version="1.0.0"
 )
 
+
+class GzipRequestMiddleware:
+    """Content-Encoding: gzip 으로 압축된 요청 본문(Spring AI 클라이언트)을 풀어서 전달하는 ASGI 미들웨어"""
+
+    def __init__(self, app):
+        self.app = app
+
+    async def __call__(self, scope, receive, send):
+        if scope["type"] != "http":
+            await self.app(scope, receive, send)
+            return
+
+        headers = scope.get("headers") or []
+        if dict(headers).get(b"content-encoding", b"").lower() != b"gzip":
+            await self.app(scope, receive, send)
+            return
+
+        body = b""
+        more_body = True
+        while more_body:
+            message = await receive()
+            body += message.get("body", b"")
+            more_body = message.get("more_body", False)
+        data = gzip.decompress(body)
+
+        scope = dict(scope)
+        scope["headers"] = [
+            (key, value) for key, value in headers
+            if key not in (b"content-encoding", b"content-length")
+        ] + [(b"content-length", str(len(data)).encode())]
+
+        delivered = False
+
+        async def receive_decompressed():
+            nonlocal delivered
+            if not delivered:
+                delivered = True
+                return {"type": "http.request", "body": data, "more_body": False}
+            return await receive()
+
+        await self.app(scope, receive_decompressed, send)
+
+
+app.add_middleware(GzipRequestMiddleware)
+
 # --- 헬퍼 함수 ---
 def load_json_file(file_path: str) -> dict:
     """JSON 파일을 로드하는 헬퍼 함수"""
@@ -95,6 +144,41 @@ def load_evaluation_result_from_json(application_id: str) -> dict:
         logger.error(f"평가 결과 JSON 로드 실패: {e}")
         return {}
 
+# 루브릭 스냅샷 캐시 (버전 -> 스냅샷). 재시작 후에는 RUBRICS_DIR 의 파일에서 다시 읽는다.
+rubric_cache: Dict[str, dict] = {}
+
+def save_rubric(rubric: dict):
+    """루브릭 스냅샷을 버전별 JSON 파일로 저장"""
+    version = rubric['rubricVersion']
+    os.makedirs(settings.RUBRICS_DIR, exist_ok=True)
+    file_path = os.path.join(settings.RUBRICS_DIR, f"{version}.json")
+    with open(file_path, 'w', encoding='utf-8') as f:
+        json.dump(rubric, f, ensure_ascii=False)
+    rubric_cache[version] = rubric
+    logger.info(f"루브릭 저장 완료 - JobPosting ID: {rubric.get('jobPostingId')}, version: {version}")
+
+def load_rubric(version: str) -> Optional[dict]:
+    """버전으로 루브릭 스냅샷 조회 (없으면 None)"""
+    if version in rubric_cache:
+        return rubric_cache[version]
+    file_path = os.path.join(settings.RUBRICS_DIR, f"{version}.json")
+    if not os.path.exists(file_path):
+        return None
+    rubric = load_json_file(file_path)
+    if rubric:
+        rubric_cache[version] = rubric
+    return rubric or None
+
+def hydrate_application(item: dict, rubric: dict) -> dict:
+    """ID만 담긴 지원서 답변에 루브릭의 항목명/질문 내용을 채움"""
+    item_names = {ri['id']: ri['name'] for ri in rubric.get('resumeItems', [])}
+    question_contents = {q['id']: q['content'] for q in rubric.get('coverLetterQuestions', [])}
+    for answer in item.get('resumeItemAnswers', []):
+        answer.setdefault('resumeItemName', item_names.get(answer.get('resumeItemId')))
+    for answer in item.get('coverLetterQuestionAnswers', []):
+        answer.setdefault('questionContent', question_contents.get(answer.get('coverLetterQuestionId')))
+    return item
+
 def run_p2_evaluation_background(applicant_data: dict, llm_manager: LLMManager, similarity_evaluator: SimilarityEvaluator):
     """
     백그라운드에서 P2 평가를 수행하는 함수
@@ -115,8 +199,8 @@ def run_p2_evaluation_background(applicant_data: dict, llm_manager: LLMManager,
         # 평가 결과를 JSON 파일로 저장
         save_evaluation_result_to_json(final_report_dict)
         
-        # 평가 결과를 Spring Boot 서버로 전송
-        send_evaluation_result_to_spring_boot(final_report_dict)
+        # 평가 결과를 모아서 Spring Boot 서버로 일괄 전송
+        evaluation_result_batcher.add(final_report_dict)
         
         logger.info(f"백그라운드 P2 평가 완료 - Application ID: {application_id}, 지원자: {applicant_name}")
         
@@ -125,6 +209,67 @@ def run_p2_evaluation_background(applicant_data: dict, llm_manager: LLMManager,
         applicant_name = applicant_data.get('applicantName', 'Unknown')
         logger.error(f"백그라운드 P2 평가 실패 - Application ID: {application_id}, 지원자: {applicant_name}, 오류: {e}", exc_info=True)
 
+class EvaluationResultBatcher:
+    """
+    평가 결과를 max_size 건 또는 max_wait 초 단위로 모아 NDJSON 한 번의 요청으로 Spring Boot에 전송
+    일괄 전송이 실패하면 건별 전송(send_evaluation_result_to_spring_boot)으로 대신한다.
+    """
+
+    def __init__(self, url: str, max_size: int, max_wait: float):
+        self.url = url
+        self.max_size = max_size
+        self.max_wait = max_wait
+        self._queue: "queue.Queue[dict]" = queue.Queue()
+        self._worker = threading.Thread(target=self._run, name="evaluation-result-batcher", daemon=True)
+        self._worker.start()
+
+    def add(self, evaluation_result):
+        json_data = evaluation_result if isinstance(evaluation_result, dict) else evaluation_result.dict()
+        self._queue.put(json_data)
+
+    def _run(self):
+        while True:
+            batch = [self._queue.get()]
+            deadline = time.monotonic() + self.max_wait
+            while len(batch) < self.max_size:
+                remaining = deadline - time.monotonic()
+                if remaining <= 0:
+                    break
+                try:
+                    batch.append(self._queue.get(timeout=remaining))
+                except queue.Empty:
+                    break
+            self._flush(batch)
+
+    def _flush(self, batch: List[dict]):
+        import requests
+        body = "\n".join(json.dumps(item, ensure_ascii=False, default=str) for item in batch) + "\n"
+        try:
+            response = requests.post(
+                self.url,
+                data=body.encode("utf-8"),
+                headers={"Content-Type": "application/x-ndjson"},
+                timeout=120,
+            )
+            response.raise_for_status()
+            summary = response.json()
+            logger.info(f"평가 결과 일괄 전송 - {len(batch)}건, 저장 {summary.get('succeeded')}건, 실패 {summary.get('failed')}건")
+            for item in summary.get("items", []):
+                if item.get("status") == "FAILED":
+                    logger.warning(f"평가 결과 저장 실패 - {item.get('line')}번째 줄, Application ID: {item.get('applicationId')}, 사유: {item.get('message')}")
+        except Exception as e:
+            logger.error(f"평가 결과 일괄 전송 실패 - {len(batch)}건, 건별 전송으로 대체: {e}")
+            for item in batch:
+                send_evaluation_result_to_spring_boot(item)
+
+
+evaluation_result_batcher = EvaluationResultBatcher(
+    url=settings.SPRING_BOOT_BATCH_URL,
+    max_size=settings.RESULT_BATCH_MAX_SIZE,
+    max_wait=settings.RESULT_BATCH_MAX_WAIT_SECONDS,
+)
+
+
 def send_evaluation_result_to_spring_boot(evaluation_result):
     """
     평가 결과를 Spring Boot로 전송 (Fire-and-Forget)
@@ -181,7 +326,11 @@ async def train_evaluation_criteria(
     """
     [P1] 평가 기준을 받아 평가 자산을 생성하고 RAG DB를 구축하는 '학습' API
     """
-    logger.info(f"P1 학습 요청 수신 - JobPosting ID: {request.jobPostingId}")
+    logger.info(f"P1 학습 요청 수신 - JobPosting ID: {request.jobPostingId}, version: {request.rubricVersion}")
+
+    # 지원서 평가가 루브릭 버전으로 참조할 수 있도록 먼저 저장
+    if request.rubricVersion:
+        save_rubric(request.dict())
     
     # 예시 데이터 파일 로드
     logger.info(f"📁 예시 데이터 파일 로딩 시작: {settings.EXAMPLES_FILE}")
@@ -235,6 +384,57 @@ async def submit_application(
         applicationId=request.applicationId
     )
 
+@app.post("/api/applications/submit-batch", response_model=ApplicationBatchSubmitResponse)
+async def submit_application_batch(
+    request: ApplicationBatchSubmitRequest,
+    background_tasks: BackgroundTasks,
+    llm_manager: LLMManager = Depends(get_p2_llm_manager),
+    similarity_eval: SimilarityEvaluator = Depends(get_similarity_evaluator)
+):
+    """
+    [P2] 같은 공고의 지원서 여러 건을 한 번에 받아 백그라운드 평가를 등록하는 API
+    항목별로 검증하여 실패한 지원서 ID만 돌려주고, 백엔드는 그 지원서만 재전송한다.
+    """
+    logger.info(f"P2 배치 평가 요청 수신 - JobPosting ID: {request.jobPostingId}, {len(request.applications)}건")
+
+    accepted: List[int] = []
+    failed: List[int] = []
+    rubric_missing = False
+    for item in request.applications:
+        version = item.get('rubricVersion')
+        if version:
+            rubric = load_rubric(version)
+            if rubric is None:
+                logger.warning(f"루브릭 버전을 찾을 수 없음 - Application ID: {item.get('applicationId')}, version: {version}")
+                rubric_missing = True
+                if item.get('applicationId') is not None:
+                    failed.append(item.get('applicationId'))
+                continue
+            item = hydrate_application(item, rubric)
+
+        try:
+            application = ApplicationSubmitRequest(**item)
+        except ValidationError as e:
+            logger.warning(f"배치 항목 검증 실패 - Application ID: {item.get('applicationId')}, 오류: {e}")
+            if item.get('applicationId') is not None:
+                failed.append(item.get('applicationId'))
+            continue
+
+        background_tasks.add_task(
+            run_p2_evaluation_background,
+            applicant_data=application.dict(),
+            llm_manager=llm_manager,
+            similarity_evaluator=similarity_eval
+        )
+        accepted.append(application.applicationId)
+
+    return ApplicationBatchSubmitResponse(
+        jobPostingId=request.jobPostingId,
+        acceptedApplicationIds=accepted,
+        failedApplicationIds=failed,
+        rubricMissing=rubric_missing
+    )
+
 @app.get("/api/applications/{application_id}/evaluation-result")
 async def get_evaluation_result(application_id: str):
     """
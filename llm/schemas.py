@@ -1,7 +1,7 @@
 # llm/schemas.py
 
 from pydantic import BaseModel, validator
-from typing import List, Optional
+from typing import Any, Dict, List, Optional
 
 # Spring ResumeItemType과 매칭되는 타입 상수들
 RESUME_ITEM_TYPES = [
@@ -71,6 +71,7 @@ class EvaluationCriteriaRequest(BaseModel):
     aiAutomaticEvaluation: bool  # Spring Boot에서 보내는 필드 추가
     manualReview: bool  # Spring Boot에서 보내는 필드 추가
     timestamp: int  # Spring Boot에서 보내는 필드 추가
+    rubricVersion: Optional[str] = None  # 루브릭 스냅샷 버전 (지원서는 이 버전만 참조)
     resumeItems: List[ResumeItem]
     coverLetterQuestions: List[CoverLetterQuestion]
 
@@ -84,13 +85,13 @@ class EvaluationCriteriaResponse(BaseModel):
 
 class ResumeAnswer(BaseModel):
     resumeItemId: int
-    resumeItemName: str
+    resumeItemName: Optional[str] = None  # rubricVersion 이 있으면 루브릭에서 채움
     resumeContent: Optional[str] = None
     selectedCategory: Optional[str] = None # 수상경력 등을 위함
 
 class CoverLetterAnswer(BaseModel):
     coverLetterQuestionId: int
-    questionContent: str
+    questionContent: Optional[str] = None  # rubricVersion 이 있으면 루브릭에서 채움
     answerContent: str
 
 class ApplicationSubmitRequest(BaseModel):
@@ -100,6 +101,7 @@ class ApplicationSubmitRequest(BaseModel):
     applicantEmail: str
     applicationId: int
     jobPostingId: int
+    rubricVersion: Optional[str] = None  # 학습 API로 받은 루브릭 스냅샷 버전
     resumeItemAnswers: List[ResumeAnswer]
     coverLetterQuestionAnswers: List[CoverLetterAnswer]
 
@@ -109,6 +111,18 @@ class ApplicationSubmitResponse(BaseModel):
     message: str
     applicationId: int  # camelCase로 변경
 
+class ApplicationBatchSubmitRequest(BaseModel):
+    """같은 공고의 지원서를 묶어서 보내는 배치 '평가' 요청 모델 (항목별 검증은 엔드포인트에서 수행)"""
+    jobPostingId: int
+    applications: List[Dict[str, Any]]
+
+class ApplicationBatchSubmitResponse(BaseModel):
+    """배치 '평가' 요청에 대한 응답 모델 (실패한 지원서만 백엔드에서 재전송)"""
+    jobPostingId: int
+    acceptedApplicationIds: List[int]
+    failedApplicationIds: List[int]
+    rubricMissing: bool = False  # 루브릭 버전을 찾지 못한 경우 (백엔드가 루브릭을 다시 전송)
+
 # --- 최종 평가 결과 (EvaluationResult) 모델 ---
 # P2 파이프라인이 생성하고 Spring Boot으로 전송할 최종 리포트의 형식입니다.
 